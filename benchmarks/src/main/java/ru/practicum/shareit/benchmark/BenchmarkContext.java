@@ -0,0 +1,37 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkContext {
+    private static final List<String> DEFAULTS = List.of(
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=" + System.getProperty("benchmark.db.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1"),
+            "--spring.datasource.driver-class-name=",
+            "--spring.datasource.username=" + System.getProperty("benchmark.db.username", "sa"),
+            "--spring.datasource.password=" + System.getProperty("benchmark.db.password", ""),
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework.transaction=WARN",
+            "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        List<String> args = new ArrayList<>(DEFAULTS);
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args.toArray(String[]::new));
+    }
+}
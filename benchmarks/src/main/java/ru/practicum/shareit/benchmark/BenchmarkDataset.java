@@ -0,0 +1,58 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class BenchmarkDataset {
+    public static final int USERS = 100;
+    public static final int ITEMS = 500;
+    public static final int BOOKINGS = 20_000;
+    private static final String[] STATUSES = {"WAITING", "APPROVED", "REJECTED", "CANCELED"};
+
+    private BenchmarkDataset() {
+    }
+
+    public static void populate(JdbcTemplate jdbc) {
+        jdbc.execute("create index if not exists index_item_owner on items (owner_id)");
+        jdbc.execute("create index if not exists index_booking_booker_start on bookings (booker_id, start_date, id)");
+        jdbc.execute("create index if not exists index_booking_owner_start on bookings (owner_id, start_date, id)");
+        jdbc.execute("create index if not exists index_booking_item_start on bookings (item_id, start_date, id)");
+
+        Random random = new Random(42);
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@shareit.ru"});
+        }
+        jdbc.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        for (long id = 1; id <= ITEMS; id++) {
+            items.add(new Object[]{id, ownerOf(id), "item" + id, "description of item " + id, true});
+        }
+        jdbc.batchUpdate("insert into items (id, owner_id, name, description, available) values (?, ?, ?, ?, ?)",
+                items);
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        List<Object[]> bookings = new ArrayList<>();
+        for (long id = 1; id <= BOOKINGS; id++) {
+            Instant start = now.plus(Duration.ofHours(random.nextInt(24 * 730) - 24 * 365));
+            Instant end = start.plus(Duration.ofHours(1 + random.nextInt(24 * 10)));
+            long itemId = 1 + random.nextInt(ITEMS);
+            bookings.add(new Object[]{id, 1 + random.nextInt(USERS), itemId, ownerOf(itemId),
+                    Timestamp.from(start), Timestamp.from(end), STATUSES[random.nextInt(STATUSES.length)]});
+        }
+        jdbc.batchUpdate("insert into bookings (id, booker_id, item_id, owner_id, start_date, end_date, status) "
+                         + "values (?, ?, ?, ?, ?, ?, ?)", bookings);
+    }
+
+    public static long ownerOf(long itemId) {
+        return 1 + itemId % USERS;
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.benchmark.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.benchmark.BenchmarkContext;
+import ru.practicum.shareit.benchmark.BenchmarkDataset;
+import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.util.CursorPage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * JDBC statements per call with the second-level cache off and on. Each call runs with an entity manager
+ * bound to the thread, as open-in-view does for web requests. Divide {@code statements} by {@code calls}
+ * to get the statements per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SecondLevelCacheBenchmark {
+    private static final long OWNER_ID = 7L;
+    private static final int PAGE_SIZE = 10;
+    private static final int BOOKINGS = 200;
+
+    @Param({"false", "true"})
+    private boolean l2cache;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private long[][] bookings;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = l2cache
+                ? BenchmarkContext.start("spring.profiles.active=l2cache",
+                "spring.jpa.properties.hibernate.generate_statistics=true")
+                : BenchmarkContext.start("spring.jpa.properties.hibernate.generate_statistics=true");
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.populate(jdbc);
+        List<long[]> rows = jdbc.query("select id, booker_id from bookings order by id limit ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, BOOKINGS);
+        bookings = rows.toArray(long[][]::new);
+        bookingService = context.getBean(BookingService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<BookingDto> ownerBookings(Statements statements) {
+        return inSession(statements,
+                () -> bookingService.getByOwner(OWNER_ID, BookingSelectionState.ALL, null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public BookingDto bookingById(Statements statements) {
+        long[] booking = bookings[next++ % bookings.length];
+        return inSession(statements, () -> bookingService.getById(booking[1], booking[0]));
+    }
+
+    private <T> T inSession(Statements statements, Supplier<T> call) {
+        long prepared = statistics.getPrepareStatementCount();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            return call.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            statements.calls++;
+            statements.statements += statistics.getPrepareStatementCount() - prepared;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        public long calls;
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            statements = 0;
+        }
+    }
+}
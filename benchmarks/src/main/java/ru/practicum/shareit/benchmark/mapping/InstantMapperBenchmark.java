@@ -0,0 +1,46 @@
+package ru.practicum.shareit.benchmark.mapping;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.util.InstantMapper;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InstantMapperBenchmark {
+    private final Instant instant = Instant.parse("2024-07-15T09:30:15Z");
+    private final String text = "2024-07-15T09:30:15";
+
+    @Benchmark
+    public String legacyFormat() {
+        return LegacyInstantMapper.mapInstantToString(instant);
+    }
+
+    @Benchmark
+    public String format() {
+        return InstantMapper.mapInstantToString(instant);
+    }
+
+    @Benchmark
+    public Instant legacyParse() {
+        return LegacyInstantMapper.mapStringToInstant(text);
+    }
+
+    @Benchmark
+    public Instant parse() {
+        return InstantMapper.mapStringToInstant(text);
+    }
+}
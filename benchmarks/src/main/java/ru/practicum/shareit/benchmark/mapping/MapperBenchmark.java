@@ -0,0 +1,133 @@
+package ru.practicum.shareit.benchmark.mapping;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.booking.dto.BookingDates;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingMapperImpl;
+import ru.practicum.shareit.booking.dto.BookingRow;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemMapperImpl;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.request.dto.ItemRequestMapperImpl;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps whole pages the way the services do, so every {@code InstantMapper} call of a page is included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+    private static final Instant START = Instant.parse("2024-07-15T09:30:15Z");
+    private static final List<String> COMMENTS = List.of("Всё работает", "Батарея держит долго");
+
+    @Param({"1", "10", "100"})
+    private int size;
+
+    private final BookingMapper bookingMapper = new BookingMapperImpl();
+    private final ItemMapper itemMapper = new ItemMapperImpl();
+    private final ItemRequestMapper requestMapper = new ItemRequestMapperImpl();
+
+    private List<Booking> bookings;
+    private List<BookingRow> rows;
+    private List<Item> items;
+    private List<BookingDates> dates;
+    private List<ItemRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookings = new ArrayList<>(size);
+        rows = new ArrayList<>(size);
+        items = new ArrayList<>(size);
+        dates = new ArrayList<>(size);
+        requests = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setName("user" + id);
+            user.setEmail("user" + id + "@yandex.ru");
+
+            Item item = new Item();
+            item.setId(id);
+            item.setOwnerId(id);
+            item.setName("дрель " + id);
+            item.setDescription("ударная дрель " + id);
+            item.setAvailable(true);
+            item.setComments(COMMENTS);
+            items.add(item);
+
+            Instant start = START.plus(Duration.ofHours(id));
+            Instant end = start.plus(Duration.ofDays(1));
+            Booking booking = new Booking();
+            booking.setId(id);
+            booking.setStart(start);
+            booking.setEnd(end);
+            booking.setStatus(BookingStatus.APPROVED);
+            booking.setBooker(user);
+            booking.setItem(item);
+            bookings.add(booking);
+
+            rows.add(new BookingRow(id, start, end, BookingStatus.APPROVED, id, user.getName(), user.getEmail(),
+                    id, item.getName(), item.getDescription(), true, null));
+            dates.add(new BookingDates(id, start, end));
+
+            ItemRequest request = new ItemRequest();
+            request.setId(id);
+            request.setDescription("нужна дрель " + id);
+            request.setRequestor(user);
+            request.setCreated(start);
+            requests.add(request);
+        }
+    }
+
+    @Benchmark
+    public List<BookingDto> bookings() {
+        return bookingMapper.toDto(bookings);
+    }
+
+    @Benchmark
+    public void bookingRows(Blackhole blackhole) {
+        for (BookingRow row : rows) {
+            blackhole.consume(bookingMapper.toDto(row, COMMENTS));
+        }
+    }
+
+    @Benchmark
+    public void inventory(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(itemMapper.toBookingDatesDto(items.get(i), dates.get(i), COMMENTS));
+        }
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> requests() {
+        return requestMapper.toDto(requests);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.benchmark.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.benchmark.BenchmarkContext;
+import ru.practicum.shareit.benchmark.BenchmarkDataset;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.LikeItemSearchEngine;
+import ru.practicum.shareit.item.search.TrigramItemSearchEngine;
+import ru.practicum.shareit.util.CursorPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SearchBenchmark {
+    private static final int EXTRA_ITEMS = 20_000;
+    private static final int PAGE_SIZE = 10;
+    private static final String[] WORDS = {"дрель", "перфоратор", "лестница", "палатка", "велосипед", "шуруповёрт",
+            "drill", "ladder", "tent", "bicycle", "kayak", "projector", "camera", "tripod", "saw", "hammer"};
+
+    @Param({"дрель", "kayak", "ojecto", "tripod camera"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private LikeItemSearchEngine likeEngine;
+    private TrigramItemSearchEngine trigramEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("shareit.search.mode=trigram");
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkDataset.populate(jdbc);
+        Random random = new Random(42);
+        List<Object[]> items = new ArrayList<>();
+        for (long id = BenchmarkDataset.ITEMS + 1; id <= BenchmarkDataset.ITEMS + EXTRA_ITEMS; id++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            items.add(new Object[]{id, BenchmarkDataset.ownerOf(id), name, "used " + name + " in good condition",
+                    random.nextInt(5) != 0});
+        }
+        jdbc.batchUpdate("insert into items (id, owner_id, name, description, available) values (?, ?, ?, ?, ?)",
+                items);
+        likeEngine = new LikeItemSearchEngine(context.getBean(ItemRepository.class));
+        trigramEngine = context.getBean(TrigramItemSearchEngine.class);
+        trigramEngine.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<Item> like() {
+        return likeEngine.search(query, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<Item> trigram() {
+        return trigramEngine.search(query, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.benchmark.selection;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface LegacyBookingRepository extends Repository<Booking, Long> {
+    String BY_BOOKER = "select b from Booking b where b.booker.id = :userId ";
+    String BY_OWNER = "select b from Booking b where b.item.ownerId = :userId ";
+    String AFTER_CURSOR = "and (b.start > :cursorStart or (b.start = :cursorStart and b.id > :cursorId)) "
+                          + "order by b.start, b.id";
+
+    @Query(BY_BOOKER + AFTER_CURSOR)
+    List<Booking> findByBookerAfter(Long userId, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_BOOKER + "and b.status = :status " + AFTER_CURSOR)
+    List<Booking> findByBookerAndStatusAfter(Long userId, BookingStatus status,
+                                             Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_BOOKER + "and b.start <= :now and b.end > :now " + AFTER_CURSOR)
+    List<Booking> findCurrentByBookerAfter(Long userId, Instant now, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_BOOKER + "and b.end < :now " + AFTER_CURSOR)
+    List<Booking> findPastByBookerAfter(Long userId, Instant now, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_BOOKER + "and b.start > :now " + AFTER_CURSOR)
+    List<Booking> findFutureByBookerAfter(Long userId, Instant now, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_OWNER + AFTER_CURSOR)
+    List<Booking> findByOwnerAfter(Long userId, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_OWNER + "and b.status = :status " + AFTER_CURSOR)
+    List<Booking> findByOwnerAndStatusAfter(Long userId, BookingStatus status,
+                                            Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_OWNER + "and b.start <= :now and b.end > :now " + AFTER_CURSOR)
+    List<Booking> findCurrentByOwnerAfter(Long userId, Instant now, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_OWNER + "and b.end < :now " + AFTER_CURSOR)
+    List<Booking> findPastByOwnerAfter(Long userId, Instant now, Instant cursorStart, Long cursorId, Limit limit);
+
+    @Query(BY_OWNER + "and b.start > :now " + AFTER_CURSOR)
+    List<Booking> findFutureByOwnerAfter(Long userId, Instant now, Instant cursorStart, Long cursorId, Limit limit);
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.benchmark.selection;
+
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.selection.BookingCursor;
+
+import java.util.List;
+
+/**
+ * Copy of the chain of responsibility that served booking lists before the specification engine:
+ * one handler per state, each forwarding to the next one until the state matches.
+ */
+public class LegacySelectionHandler {
+    private final BookingSelectionState state;
+    private final Selection selection;
+    private LegacySelectionHandler next;
+
+    LegacySelectionHandler(BookingSelectionState state, Selection selection) {
+        this.state = state;
+        this.selection = selection;
+    }
+
+    public static LegacySelectionHandler link(LegacySelectionHandler first, LegacySelectionHandler... chain) {
+        LegacySelectionHandler head = first;
+        for (LegacySelectionHandler nextInChain : chain) {
+            head.next = nextInChain;
+            head = nextInChain;
+        }
+        return first;
+    }
+
+    public List<Booking> handle(Long userId, BookingSelectionState state, BookingCursor cursor, Limit limit) {
+        if (this.state == state) {
+            return selection.select(userId, cursor, limit);
+        }
+        if (next == null) {
+            return List.of();
+        }
+        return next.handle(userId, state, cursor, limit);
+    }
+
+    @FunctionalInterface
+    interface Selection {
+        List<Booking> select(Long userId, BookingCursor cursor, Limit limit);
+    }
+}
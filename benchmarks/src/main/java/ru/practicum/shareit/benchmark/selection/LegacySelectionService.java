@@ -0,0 +1,62 @@
+package ru.practicum.shareit.benchmark.selection;
+
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.selection.BookingCursor;
+
+import java.time.Instant;
+import java.util.List;
+
+import static ru.practicum.shareit.booking.BookingSelectionState.ALL;
+import static ru.practicum.shareit.booking.BookingSelectionState.CURRENT;
+import static ru.practicum.shareit.booking.BookingSelectionState.FUTURE;
+import static ru.practicum.shareit.booking.BookingSelectionState.PAST;
+import static ru.practicum.shareit.booking.BookingSelectionState.REJECTED;
+import static ru.practicum.shareit.booking.BookingSelectionState.WAITING;
+
+public class LegacySelectionService {
+    private final LegacyBookingRepository repository;
+    private LegacySelectionHandler handler;
+
+    public LegacySelectionService(LegacyBookingRepository repository) {
+        this.repository = repository;
+    }
+
+    public List<Booking> handleByBooker(Long userId, BookingSelectionState state,
+                                        BookingCursor cursor, Limit limit) {
+        handler = LegacySelectionHandler.link(
+                new LegacySelectionHandler(ALL, (id, c, l) ->
+                        repository.findByBookerAfter(id, c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(WAITING, (id, c, l) ->
+                        repository.findByBookerAndStatusAfter(id, BookingStatus.WAITING, c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(REJECTED, (id, c, l) ->
+                        repository.findByBookerAndStatusAfter(id, BookingStatus.REJECTED, c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(CURRENT, (id, c, l) ->
+                        repository.findCurrentByBookerAfter(id, Instant.now(), c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(PAST, (id, c, l) ->
+                        repository.findPastByBookerAfter(id, Instant.now(), c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(FUTURE, (id, c, l) ->
+                        repository.findFutureByBookerAfter(id, Instant.now(), c.getStart(), c.getId(), l)));
+        return handler.handle(userId, state, cursor, limit);
+    }
+
+    public List<Booking> handleByOwner(Long userId, BookingSelectionState state,
+                                       BookingCursor cursor, Limit limit) {
+        handler = LegacySelectionHandler.link(
+                new LegacySelectionHandler(ALL, (id, c, l) ->
+                        repository.findByOwnerAfter(id, c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(WAITING, (id, c, l) ->
+                        repository.findByOwnerAndStatusAfter(id, BookingStatus.WAITING, c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(REJECTED, (id, c, l) ->
+                        repository.findByOwnerAndStatusAfter(id, BookingStatus.REJECTED, c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(CURRENT, (id, c, l) ->
+                        repository.findCurrentByOwnerAfter(id, Instant.now(), c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(PAST, (id, c, l) ->
+                        repository.findPastByOwnerAfter(id, Instant.now(), c.getStart(), c.getId(), l)),
+                new LegacySelectionHandler(FUTURE, (id, c, l) ->
+                        repository.findFutureByOwnerAfter(id, Instant.now(), c.getStart(), c.getId(), l)));
+        return handler.handle(userId, state, cursor, limit);
+    }
+}
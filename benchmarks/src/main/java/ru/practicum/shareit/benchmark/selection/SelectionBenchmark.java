@@ -0,0 +1,76 @@
+package ru.practicum.shareit.benchmark.selection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.benchmark.BenchmarkContext;
+import ru.practicum.shareit.benchmark.BenchmarkDataset;
+import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.dto.BookingRow;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.selection.BookingCursor;
+import ru.practicum.shareit.booking.selection.SelectionService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SelectionBenchmark {
+    private static final long USER_ID = 7L;
+    private static final Limit PAGE = Limit.of(11);
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private BookingSelectionState state;
+
+    @Param({"booker", "owner"})
+    private String role;
+
+    private ConfigurableApplicationContext context;
+    private SelectionService selectionService;
+    private LegacySelectionService legacySelectionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkDataset.populate(context.getBean(JdbcTemplate.class));
+        selectionService = context.getBean(SelectionService.class);
+        legacySelectionService = new LegacySelectionService(context.getBean(LegacyBookingRepository.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Booking> legacyChain() {
+        return "booker".equals(role)
+                ? legacySelectionService.handleByBooker(USER_ID, state, BookingCursor.FIRST, PAGE)
+                : legacySelectionService.handleByOwner(USER_ID, state, BookingCursor.FIRST, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingRow> specification() {
+        return "booker".equals(role)
+                ? selectionService.handleByBooker(USER_ID, state, BookingCursor.FIRST, PAGE)
+                : selectionService.handleByOwner(USER_ID, state, BookingCursor.FIRST, PAGE);
+    }
+}
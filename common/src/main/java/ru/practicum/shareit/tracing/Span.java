@@ -0,0 +1,60 @@
+package ru.practicum.shareit.tracing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One timed step of a request. Spans of one request share a trace id, every span but the first points to the
+ * span it was started in.
+ */
+@Getter
+public class Span {
+    private final String traceId;
+    private final String spanId;
+    private final String parentId;
+    @Setter
+    private String name;
+    private final Instant start;
+    @Getter(AccessLevel.PACKAGE)
+    private final long startNanos;
+    @Getter(AccessLevel.PACKAGE)
+    private volatile long endNanos;
+    private final Map<String, String> tags = new ConcurrentHashMap<>();
+
+    Span(String name, String traceId, String spanId, String parentId) {
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentId = parentId;
+        this.start = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+
+    public void tag(String key, String value) {
+        tags.put(key, value);
+    }
+
+    /**
+     * Duration in microseconds, or -1 while the span is not ended.
+     */
+    public long getDurationMicros() {
+        return endNanos == 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+    }
+
+    /**
+     * The W3C {@code traceparent} header that makes this span the parent of the receiver's spans.
+     */
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    void end() {
+        endNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The last ended spans. Once the buffer is full every new span overwrites the oldest one.
+ */
+class SpanRingBuffer {
+    private final AtomicReferenceArray<Span> slots;
+    private final AtomicLong written = new AtomicLong();
+
+    SpanRingBuffer(int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(Span span) {
+        slots.set(slot(written.getAndIncrement()), span);
+    }
+
+    /**
+     * Buffered spans, the most recently ended first.
+     */
+    List<Span> recent() {
+        long last = written.get();
+        long first = Math.max(0, last - slots.length());
+        List<Span> spans = new ArrayList<>((int) (last - first));
+        for (long position = last - 1; position >= first; position--) {
+            Span span = slots.get(slot(position));
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    private int slot(long position) {
+        return (int) (position % slots.length());
+    }
+}
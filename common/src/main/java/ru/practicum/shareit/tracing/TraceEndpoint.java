@@ -0,0 +1,43 @@
+package ru.practicum.shareit.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recent traces of the span buffer, and all buffered spans of one trace in the order they were started.
+ */
+@Endpoint(id = "traces")
+public class TraceEndpoint {
+    private static final int RECENT_TRACES = 100;
+
+    private final Tracer tracer;
+
+    public TraceEndpoint(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        Map<String, TraceSummary> traces = new LinkedHashMap<>();
+        for (Span span : tracer.recentSpans()) {
+            traces.computeIfAbsent(span.getTraceId(), TraceSummary::new).add(span);
+        }
+        return traces.values().stream()
+                .limit(RECENT_TRACES)
+                .toList();
+    }
+
+    @ReadOperation
+    public List<Span> trace(@Selector String traceId) {
+        return tracer.recentSpans().stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .sorted(Comparator.comparingLong(Span::getStartNanos))
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.tracing;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A trace as seen from this service: its first span and the time from the start of the first span to the end
+ * of the last one.
+ */
+public class TraceSummary {
+    @Getter
+    private final String traceId;
+    @Getter
+    private String name;
+    @Getter
+    private Instant start;
+    @Getter
+    private int spans;
+    private long startNanos = Long.MAX_VALUE;
+    private long endNanos = Long.MIN_VALUE;
+
+    TraceSummary(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+    }
+
+    void add(Span span) {
+        spans++;
+        if (span.getStartNanos() < startNanos) {
+            startNanos = span.getStartNanos();
+            name = span.getName();
+            start = span.getStart();
+        }
+        endNanos = Math.max(endNanos, span.getEndNanos());
+    }
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.tracing;
+
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Starts spans and keeps the ended ones in a bounded in-memory buffer. The span a thread is working in is its
+ * current span; code that hands work to another thread passes the span along explicitly.
+ */
+public class Tracer {
+    private static final Pattern TRACEPARENT = Pattern.compile("[\\da-f]{2}-([\\da-f]{32})-([\\da-f]{16})-[\\da-f]{2}");
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final SpanRingBuffer spans;
+
+    public Tracer(int bufferSize) {
+        this.spans = new SpanRingBuffer(bufferSize);
+    }
+
+    /**
+     * Starts a child of {@code parent}, or the first span of a new trace without a parent.
+     */
+    public Span start(String name, Span parent) {
+        return parent == null
+                ? new Span(name, newTraceId(), newSpanId(), null)
+                : new Span(name, parent.getTraceId(), newSpanId(), parent.getSpanId());
+    }
+
+    /**
+     * Continues the trace of a W3C {@code traceparent} header, or starts a new trace when the header is
+     * missing or malformed.
+     */
+    public Span start(String name, String traceparent) {
+        if (traceparent != null) {
+            var matcher = TRACEPARENT.matcher(traceparent.trim());
+            if (matcher.matches() && !isZero(matcher.group(1)) && !isZero(matcher.group(2))) {
+                return new Span(name, matcher.group(1), newSpanId(), matcher.group(2));
+            }
+        }
+        return start(name, (Span) null);
+    }
+
+    /**
+     * The current span of this thread, or {@code null} outside of any span.
+     */
+    public Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes {@code span} the current span of this thread, or clears it for {@code null}, and returns the previous
+     * one to restore later.
+     */
+    public Span activate(Span span) {
+        Span previous = CURRENT.get();
+        if (span == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(span);
+        }
+        return previous;
+    }
+
+    public void end(Span span) {
+        span.end();
+        spans.add(span);
+    }
+
+    /**
+     * Ended spans still in the buffer, the most recently ended first.
+     */
+    public List<Span> recentSpans() {
+        return spans.recent();
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong() | 1);
+    }
+
+    private static String newSpanId() {
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong() | 1);
+    }
+
+    private static boolean isZero(String id) {
+        return id.chars().allMatch(c -> c == '0');
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.tracing;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a span for every request, continuing the trace of an incoming {@code traceparent} header. A request
+ * without one starts a new trace, and its {@code traceparent} is sent back so the caller can look the request
+ * up in the {@code traces} endpoint. A request answered asynchronously is ended when its response is complete.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+    public static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Span span = tracer.start(request.getMethod() + " " + request.getRequestURI(), request.getHeader(TRACEPARENT));
+        if (span.getParentId() == null) {
+            response.setHeader(TRACEPARENT, span.traceparent());
+        }
+        Span previous = tracer.activate(span);
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.tag("error", e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            tracer.activate(previous);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        end(span, request, response);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        span.tag("error", "Timeout");
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        span.tag("error", event.getThrowable() == null
+                                ? "Error" : event.getThrowable().getClass().getSimpleName());
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                end(span, request, response);
+            }
+        }
+    }
+
+    private void end(Span span, HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            span.setName(request.getMethod() + " " + pattern);
+        }
+        span.tag("http.status", String.valueOf(response.getStatus()));
+        tracer.end(span);
+    }
+}
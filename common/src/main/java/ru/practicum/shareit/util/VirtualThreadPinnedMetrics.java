@@ -0,0 +1,47 @@
+package ru.practicum.shareit.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records {@code jdk.VirtualThreadPinned} flight recorder events, a virtual thread that blocked while it could
+ * not unmount from its carrier, as the {@code jvm.threads.virtual.pinned} timer.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinnedMetrics implements MeterBinder, DisposableBean {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recording = new RecordingStream();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    public VirtualThreadPinnedMetrics(@Value("${shareit.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        recording.enable(PINNED_EVENT).withThreshold(threshold);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Timer pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time a virtual thread stayed blocked on its carrier thread")
+                .register(registry);
+        recording.onEvent(PINNED_EVENT, event -> pinned.record(event.getDuration()));
+        if (started.compareAndSet(false, true)) {
+            recording.startAsync();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        recording.close();
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+/**
+ * Time until a burst of {@link #BURST} identical {@code GET /items/1} requests has been answered by the
+ * gateway, with a server that takes 100 ms per request, and the number of requests the server received.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CoalescingBenchmark {
+    private static final int BURST = 400;
+    private static final Duration SERVER_DELAY = Duration.ofMillis(100);
+    private static final String ITEM = "{\"id\":1,\"name\":\"Дрель\",\"description\":\"Простая дрель\","
+            + "\"available\":true,\"comments\":[]}";
+
+    @Param({"false", "true"})
+    private boolean coalescing;
+
+    private StubServer server;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start(SERVER_DELAY, ITEM);
+        context = GatewayContext.serve(server.url(), "shareit-server.coalescing=" + coalescing);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(GatewayContext.url(context) + "/items/1"))
+                .header(USER_ID, "1")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int burst(Upstream upstream) {
+        long before = server.requests();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        upstream.calls += server.requests() - before;
+        return responses.length;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Upstream {
+        public long calls;
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import ru.practicum.shareit.client.ServerClientFactory;
+import ru.practicum.shareit.user.UserClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of gateway calls to a server that answers in 20 ms, with 64 concurrent callers.
+ * {@code perClient} is the request factory each client used to build for itself, with the HttpClient
+ * default pool of 5 connections per route. {@code shared} is the gateway-wide pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConnectionPoolBenchmark {
+    private static final Duration SERVER_DELAY = Duration.ofMillis(20);
+    private static final String USER = "{\"id\":1,\"name\":\"user\",\"email\":\"user@shareit.ru\"}";
+
+    @Param({"perClient", "shared"})
+    private String pool;
+
+    private StubServer server;
+    private ConfigurableApplicationContext context;
+    private UserClient userClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start(SERVER_DELAY, USER);
+        context = GatewayContext.start(server.url(), "shareit-server.coalescing=false");
+        userClient = "shared".equals(pool)
+                ? context.getBean(UserClient.class)
+                : new UserClient(new ServerClientFactory(server.url(), false, null, null, null, null,
+                context.getBean(RestTemplateBuilder.class), new HttpComponentsClientHttpRequestFactory(), null));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getUser() {
+        return userClient.getById(1L).block();
+    }
+}
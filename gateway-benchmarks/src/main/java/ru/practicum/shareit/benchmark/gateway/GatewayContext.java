@@ -0,0 +1,58 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class GatewayContext {
+    private static final List<String> DEFAULTS = List.of(
+            "spring.main.banner-mode=off",
+            "logging.level.root=WARN",
+            "shareit.rate-limit.enabled=false",
+            "shareit-server.concurrency-limit.enabled=false",
+            "shareit-server.route-guard.enabled=false");
+
+    private GatewayContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String serverUrl, String... properties) {
+        return run(WebApplicationType.NONE, serverUrl, properties);
+    }
+
+    /**
+     * Starts the gateway with its web server on a free port, see {@link #url}.
+     */
+    public static ConfigurableApplicationContext serve(String serverUrl, String... properties) {
+        List<String> args = new ArrayList<>(List.of(properties));
+        args.add("server.port=0");
+        return run(WebApplicationType.SERVLET, serverUrl, args.toArray(String[]::new));
+    }
+
+    public static String url(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType type, String serverUrl,
+                                                      String... properties) {
+        List<String> all = new ArrayList<>(DEFAULTS);
+        all.add("shareit-server.url=" + serverUrl);
+        all.addAll(List.of(properties));
+        Map<String, String> args = new LinkedHashMap<>();
+        for (String property : all) {
+            int separator = property.indexOf('=');
+            args.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        return new SpringApplicationBuilder(ShareItGateway.class)
+                .web(type)
+                .logStartupInfo(false)
+                .run(args.entrySet().stream()
+                        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                        .toArray(String[]::new));
+    }
+}
@@ -0,0 +1,144 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+/**
+ * A burst of {@link #READS} {@code GET /bookings/owner} and {@link #WRITES} {@code POST /bookings} requests
+ * against a server that works on {@link #SERVER_CAPACITY} requests at once, 200 ms each. Reports the time
+ * until every request got an answer, how many reads and writes succeeded, how many were shed with 503 and
+ * the total time successful writes took, in milliseconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class LoadSheddingBenchmark {
+    private static final int READS = 300;
+    private static final int WRITES = 30;
+    private static final int SERVER_CAPACITY = 10;
+    private static final Duration SERVER_DELAY = Duration.ofMillis(200);
+    private static final String BOOKING = "{\"id\":1,\"status\":\"WAITING\"}";
+
+    @Param({"false", "true"})
+    private boolean limiter;
+
+    private StubServer server;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private List<HttpRequest> reads;
+    private List<HttpRequest> writes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start(SERVER_DELAY, BOOKING, SERVER_CAPACITY);
+        context = GatewayContext.serve(server.url(),
+                "shareit-server.coalescing=false",
+                "shareit-server.concurrency-limit.enabled=" + limiter);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String url = GatewayContext.url(context);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        String booking = "{\"itemId\":1,\"start\":\"" + start + "\",\"end\":\"" + start.plusDays(1) + "\"}";
+        reads = new ArrayList<>();
+        for (int i = 0; i < READS; i++) {
+            reads.add(HttpRequest.newBuilder(URI.create(url + "/bookings/owner"))
+                    .header(USER_ID, String.valueOf(i + 1))
+                    .build());
+        }
+        writes = new ArrayList<>();
+        for (int i = 0; i < WRITES; i++) {
+            writes.add(HttpRequest.newBuilder(URI.create(url + "/bookings"))
+                    .header(USER_ID, String.valueOf(i + 1))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(booking))
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int burst(Outcomes outcomes) {
+        List<CompletableFuture<Outcome>> readOutcomes = new ArrayList<>();
+        List<CompletableFuture<Outcome>> writeOutcomes = new ArrayList<>();
+        for (int i = 0; i < READS; i++) {
+            readOutcomes.add(send(reads.get(i)));
+            if (i % (READS / WRITES) == 0) {
+                writeOutcomes.add(send(writes.get(writeOutcomes.size())));
+            }
+        }
+        for (CompletableFuture<Outcome> read : readOutcomes) {
+            int status = read.join().status;
+            outcomes.okReads += status == 200 ? 1 : 0;
+            outcomes.shed += status == 503 ? 1 : 0;
+        }
+        for (CompletableFuture<Outcome> write : writeOutcomes) {
+            Outcome outcome = write.join();
+            if (outcome.status == 200) {
+                outcomes.okWrites++;
+                outcomes.okWriteMillis += outcome.millis;
+            }
+            outcomes.shed += outcome.status == 503 ? 1 : 0;
+        }
+        return readOutcomes.size() + writeOutcomes.size();
+    }
+
+    private CompletableFuture<Outcome> send(HttpRequest request) {
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> new Outcome(response.statusCode(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private static final class Outcome {
+        private final int status;
+        private final long millis;
+
+        Outcome(int status, long millis) {
+            this.status = status;
+            this.millis = millis;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long okReads;
+        public long okWrites;
+        public long shed;
+        public long okWriteMillis;
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+/**
+ * An owner booking list of {@link #BOOKINGS} entries going through the gateway over HTTP, with the server
+ * response parsed and written again ({@code buffered}) or copied as bytes ({@code passthrough}).
+ * Run with {@code -prof gc} to see the allocation per request; it includes the benchmark's own HTTP client,
+ * which is the same in both modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PassthroughBenchmark {
+    private static final int BOOKINGS = 200;
+
+    @Param({"buffered", "passthrough"})
+    private String mode;
+
+    private StubServer server;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start(Duration.ofMillis(1), bookings());
+        context = GatewayContext.serve(server.url(),
+                "shareit-server.passthrough=" + "passthrough".equals(mode),
+                "shareit-server.coalescing=false");
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create(GatewayContext.url(context) + "/bookings/owner?size=" + BOOKINGS))
+                .header(USER_ID, "1")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int ownerBookings() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private static String bookings() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0);
+        StringJoiner bookings = new StringJoiner(",", "[", "]");
+        for (int id = 1; id <= BOOKINGS; id++) {
+            bookings.add("{\"id\":" + id
+                         + ",\"start\":\"" + start.plusDays(id) + ":00\",\"end\":\"" + start.plusDays(id + 1) + ":00\""
+                         + ",\"status\":\"APPROVED\""
+                         + ",\"booker\":{\"id\":" + (id % 50 + 2) + ",\"name\":\"user" + id
+                         + "\",\"email\":\"user" + id + "@shareit.ru\"}"
+                         + ",\"item\":{\"id\":" + id + ",\"name\":\"item" + id
+                         + "\",\"description\":\"description of item " + id + "\",\"available\":true"
+                         + ",\"requestId\":null,\"comments\":[\"good\",\"works as described\"]}}");
+        }
+        return bookings.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+/**
+ * Time until a burst of {@link #BURST} concurrent requests has been answered by the gateway, with a server that
+ * takes 2 s per request. Both modes get a connection pool larger than the burst, so the only limit is the
+ * gateway's own threads: the blocking mode holds one of the 200 Tomcat threads per request in flight,
+ * the reactive mode holds none while waiting for the server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReactiveBenchmark {
+    private static final int BURST = 600;
+    private static final Duration SERVER_DELAY = Duration.ofSeconds(2);
+    private static final String USER = "{\"id\":1,\"name\":\"user\",\"email\":\"user@shareit.ru\"}";
+
+    @Param({"blocking", "reactive"})
+    private String mode;
+
+    private StubServer server;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubServer.start(SERVER_DELAY, USER);
+        context = GatewayContext.serve(server.url(),
+                "shareit-server.reactive=" + "reactive".equals(mode),
+                "shareit-server.coalescing=false",
+                "shareit-server.http.max-connections=" + BURST,
+                "shareit-server.http.max-connections-per-route=" + BURST);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(GatewayContext.url(context) + "/users/1"))
+                .header(USER_ID, "1")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.benchmark.gateway;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stands in for the ShareIt server: answers every request with the same JSON body after a fixed delay and
+ * counts the requests it received. With a capacity at most that many requests are worked on at once, the
+ * others queue, like requests waiting for a database connection.
+ */
+public final class StubServer implements AutoCloseable {
+    static {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "10000");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration delay;
+    private final byte[] body;
+    private final AtomicLong requests = new AtomicLong();
+    private final Semaphore capacity;
+
+    private StubServer(Duration delay, String body, int capacity) throws IOException {
+        this.delay = delay;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        this.capacity = new Semaphore(capacity, true);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static StubServer start(Duration delay, String body) {
+        return start(delay, body, Integer.MAX_VALUE);
+    }
+
+    public static StubServer start(Duration delay, String body, int capacity) {
+        try {
+            return new StubServer(delay, body, capacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("Не удалось запустить заглушку сервера", e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            capacity.acquire();
+            try {
+                Thread.sleep(delay);
+            } finally {
+                capacity.release();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
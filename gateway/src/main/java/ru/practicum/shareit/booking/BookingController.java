@@ -2,8 +2,8 @@ package ru.practicum.shareit.booking;
 
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
-import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,12 +17,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.time.LocalDateTime;
 
 import static ru.practicum.shareit.util.Constants.ERROR_USER_ID;
+import static ru.practicum.shareit.util.Constants.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 
@@ -35,49 +37,51 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @GetMapping
-    public ResponseEntity<Object> getBookings(@RequestHeader(USER_ID)
-                                              @Positive(message = ERROR_USER_ID) long userId,
-                                              @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    public Mono<ResponseEntity<Object>> getBookings(@RequestHeader(USER_ID)
+                                                    @Positive(message = ERROR_USER_ID) long userId,
+                                                    @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                    @RequestParam(name = "cursor", required = false) String cursor,
+                                                    @Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = "10") Integer size) {
         BookingState state = BookingState.from(stateParam);
-        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getBookings(userId, state, from, size);
+        log.info("Get booking with state {}, userId={}, cursor={}, size={}", stateParam, userId, cursor, size);
+        return bookingClient.getBookings(userId, state, cursor, size);
     }
 
     @PostMapping
-    public ResponseEntity<Object> bookItem(@RequestHeader(USER_ID)
-                                           @Positive(message = ERROR_USER_ID) long userId,
-                                           @RequestBody @Valid BookItemRequestDto requestDto) {
+    public Mono<ResponseEntity<Object>> bookItem(@RequestHeader(USER_ID)
+                                                 @Positive(message = ERROR_USER_ID) long userId,
+                                                 @RequestBody @Valid BookItemRequestDto requestDto) {
         log.info("Creating booking {}, userId={}", requestDto, userId);
         checkDatesBooking(requestDto.getStart(), requestDto.getEnd());
         return bookingClient.bookItem(userId, requestDto);
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(@RequestHeader(USER_ID)
-                                             @Positive(message = ERROR_USER_ID) long userId,
-                                             @PathVariable long bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(@RequestHeader(USER_ID)
+                                                   @Positive(message = ERROR_USER_ID) long userId,
+                                                   @PathVariable long bookingId) {
         log.info("Get booking {}, userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> changeStatus(@RequestHeader(USER_ID)
-                                               @Positive(message = ERROR_USER_ID) long ownerId,
-                                               @PathVariable long bookingId,
-                                               @RequestParam boolean approved) {
+    public Mono<ResponseEntity<Object>> changeStatus(@RequestHeader(USER_ID)
+                                                     @Positive(message = ERROR_USER_ID) long ownerId,
+                                                     @PathVariable long bookingId,
+                                                     @RequestParam boolean approved) {
         log.info("Update status {} for booking id {}, userId={}", approved, bookingId, ownerId);
         return bookingClient.changeStatus(ownerId, bookingId, approved);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllBookingsByOwner(@RequestHeader(USER_ID)
-                                                        @Positive(message = ERROR_USER_ID) long ownerId,
-                                                        @RequestParam(name = "state", defaultValue = "all") String stateParam) {
-        log.info("Get booking with state {}, ownerId={}", stateParam, ownerId);
+    public Mono<ResponseEntity<Object>> getAllBookingsByOwner(@RequestHeader(USER_ID)
+                                                              @Positive(message = ERROR_USER_ID) long ownerId,
+                                                              @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                              @RequestParam(name = "cursor", required = false) String cursor,
+                                                              @Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = "10") Integer size) {
+        log.info("Get booking with state {}, ownerId={}, cursor={}, size={}", stateParam, ownerId, cursor, size);
         BookingState state = BookingState.from(stateParam);
-        return bookingClient.getByOwner(ownerId, state);
+        return bookingClient.getByOwner(ownerId, state, cursor, size);
     }
 
     private void checkDatesBooking(LocalDateTime start, LocalDateTime end) {
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import ru.practicum.shareit.exceptions.ServiceUnavailableException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits concurrent server calls to a limit that follows upstream latency. Each response time is compared
+ * with the long-term average: while they match, the limit grows by about its square root per response,
+ * when responses slow down it shrinks in proportion, and a failed call cuts it by a tenth. The limit only
+ * grows while at least half of it is in use. Calls over the limit fail at once with
+ * {@link ServiceUnavailableException}. Reads may fill the limit only up to the write reserve, so writes are
+ * still admitted when reads are shed.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter shedReads;
+    private final Counter shedWrites;
+    private volatile double limit;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+        Gauge.builder("gateway.concurrency.limit", this, limiter -> limiter.limit)
+                .description("Current limit of concurrent server calls")
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Server calls in flight")
+                .register(meterRegistry);
+        this.shedReads = shedCounter(meterRegistry, "read");
+        this.shedWrites = shedCounter(meterRegistry, "write");
+    }
+
+    public <T> Mono<T> limit(boolean write, Mono<T> call) {
+        return Mono.defer(() -> {
+            int admitted = tryAcquire(write);
+            if (admitted == 0) {
+                (write ? shedWrites : shedReads).increment();
+                return Mono.error(new ServiceUnavailableException("Сервер перегружен, запрос отклонён"));
+            }
+            long start = System.nanoTime();
+            return call.doFinally(signal -> {
+                inFlight.decrementAndGet();
+                if (signal == SignalType.ON_ERROR) {
+                    onDrop();
+                } else if (signal != SignalType.CANCEL) {
+                    onSample(System.nanoTime() - start, admitted);
+                }
+            });
+        });
+    }
+
+    private int tryAcquire(boolean write) {
+        double available = write ? limit : limit * (1 - properties.getWriteReserve());
+        while (true) {
+            int current = inFlight.get();
+            if (current + 1 > available) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private synchronized void onSample(long rtt, int admitted) {
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / properties.getLongWindow();
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (admitted < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getTolerance() * longRtt / rtt));
+        double next = limit * gradient + Math.sqrt(limit);
+        update(limit * (1 - properties.getSmoothing()) + next * properties.getSmoothing());
+    }
+
+    private synchronized void onDrop() {
+        update(limit * DROP_BACKOFF);
+    }
+
+    private void update(double next) {
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), next));
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String priority) {
+        return Counter.builder("gateway.concurrency.shed")
+                .tag("priority", priority)
+                .description("Server calls rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+}
@@ -1,88 +1,176 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.tracing.Span;
+import ru.practicum.shareit.tracing.Tracer;
+import ru.practicum.shareit.tracing.TracingFilter;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import static ru.practicum.shareit.util.Constants.NEXT_CURSOR;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 public class BaseClient {
+    private static final List<String> PASSTHROUGH_HEADERS = List.of(HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CACHE_CONTROL, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.VARY, NEXT_CURSOR);
+
     protected final RestTemplate rest;
+    private final String prefix;
+    private final RestClient streamingRest;
+    private final WebClient webClient;
+    private final boolean passthrough;
+    private final RequestCoalescer coalescer;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RouteGuards routeGuards;
+    private final Tracer tracer;
 
-    public BaseClient(RestTemplate rest) {
-        this.rest = rest;
+    /**
+     * In passthrough mode 2xx responses are not parsed. The blocking client copies GET response bodies to the
+     * gateway response as bytes and releases the server connection once the copy is done; other methods are
+     * buffered, because their callers may drop the response without reading it. The reactive client reads
+     * every body as bytes without holding a thread while waiting for the server.
+     * <p>
+     * With a {@link RequestCoalescer} concurrent identical GETs share one server call. Streamed GET bodies
+     * can be read only once, so they are always sent separately. With an {@link AdaptiveConcurrencyLimiter}
+     * every server call takes a slot of its limit, writes get slots that reads are not given. With
+     * {@link RouteGuards} every call first passes the bulkhead and circuit breaker of its route. With a
+     * {@link Tracer} every server call is a span of the gateway request that made it, and the server continues
+     * the trace from its {@code traceparent} header.
+     */
+    public BaseClient(ServerClientFactory clientFactory, String prefix) {
+        this.rest = clientFactory.restTemplate(prefix);
+        this.prefix = prefix;
+        this.webClient = clientFactory.webClient(prefix);
+        this.passthrough = clientFactory.isPassthrough();
+        this.streamingRest = passthrough && webClient == null ? RestClient.create(rest) : null;
+        this.coalescer = clientFactory.getCoalescer();
+        this.concurrencyLimiter = clientFactory.getConcurrencyLimiter();
+        this.routeGuards = clientFactory.getRouteGuards();
+        this.tracer = clientFactory.getTracer();
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    protected Mono<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path) {
+    protected Mono<ResponseEntity<Object>> delete(String path) {
         return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        Span parent = tracer == null ? null : tracer.current();
+        if (coalescer != null && method == HttpMethod.GET && streamingRest == null) {
+            return coalescer.execute(method, prefix + path, userId, parameters,
+                    () -> call(method, path, userId, parameters, body, parent));
+        }
+        return call(method, path, userId, parameters, body, parent);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> call(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable Span parent) {
+        if (tracer == null) {
+            return guardedCall(method, path, userId, parameters, body, null);
+        }
+        return Mono.defer(() -> {
+            Span span = tracer.start(getClass().getSimpleName() + " " + RouteGuards.route(method, prefix + path), parent);
+            return guardedCall(method, path, userId, parameters, body, span.traceparent())
+                    .doOnSuccess(response -> {
+                        if (response != null) {
+                            span.tag("http.status", String.valueOf(response.getStatusCode().value()));
+                        }
+                    })
+                    .doOnError(e -> span.tag("error", e.getClass().getSimpleName()))
+                    .doFinally(signal -> tracer.end(span));
+        });
+    }
+
+    private <T> Mono<ResponseEntity<Object>> guardedCall(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String traceparent) {
+        Mono<ResponseEntity<Object>> call = webClient != null
+                ? exchange(method, path, userId, parameters, body, traceparent)
+                : Mono.fromCallable(() -> send(method, path, userId, parameters, body, traceparent));
+        if (concurrencyLimiter != null) {
+            call = concurrencyLimiter.limit(method != HttpMethod.GET, call);
+        }
+        if (routeGuards != null) {
+            call = routeGuards.guard(method, prefix + path).execute(call);
+        }
+        return call;
+    }
+
+    private <T> ResponseEntity<Object> send(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String traceparent) {
+        if (streamingRest != null && method == HttpMethod.GET) {
+            return stream(path, userId, parameters, traceparent);
+        }
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId, traceparent));
 
         ResponseEntity<Object> shareitServerResponse;
         try {
@@ -97,13 +185,71 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
+    private ResponseEntity<Object> stream(String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable String traceparent) {
+        return streamingRest.get()
+                .uri(path, parameters == null ? Map.of() : parameters)
+                .headers(headers -> headers.addAll(defaultHeaders(userId, traceparent)))
+                .exchange((request, response) -> toStreamingResponse(response), false);
+    }
+
+    private static ResponseEntity<Object> toStreamingResponse(ClientHttpResponse response) throws IOException {
+        HttpHeaders headers = passthroughHeaders(response.getHeaders());
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode()).headers(headers);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NO_CONTENT) || headers.getContentLength() == 0) {
+            response.close();
+            return responseBuilder.build();
+        }
+        return responseBuilder.body(new InputStreamResource(new FilterInputStream(response.getBody()) {
+            @Override
+            public void close() {
+                response.close();
+            }
+        }));
+    }
+
+    private <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String traceparent) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters == null ? Map.of() : parameters)
+                .headers(headers -> headers.addAll(defaultHeaders(userId, traceparent)));
+        return (body == null ? request : request.bodyValue(body)).exchangeToMono(this::toGatewayResponse);
+    }
+
+    private Mono<ResponseEntity<Object>> toGatewayResponse(ClientResponse response) {
+        if (!response.statusCode().is2xxSuccessful()) {
+            return response.bodyToMono(byte[].class)
+                    .map(body -> ResponseEntity.status(response.statusCode()).body((Object) body))
+                    .defaultIfEmpty(ResponseEntity.status(response.statusCode()).build());
+        }
+        HttpHeaders headers = passthroughHeaders(response.headers().asHttpHeaders());
+        if (!passthrough) {
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+        return response.bodyToMono(passthrough ? byte[].class : Object.class)
+                .map(body -> ResponseEntity.status(response.statusCode()).headers(headers).body((Object) body))
+                .defaultIfEmpty(ResponseEntity.status(response.statusCode()).headers(headers).build());
+    }
+
+    private static HttpHeaders passthroughHeaders(HttpHeaders upstream) {
+        HttpHeaders headers = new HttpHeaders();
+        PASSTHROUGH_HEADERS.forEach(name -> {
+            List<String> values = upstream.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        });
+        return headers;
+    }
+
+    private HttpHeaders defaultHeaders(Long userId, @Nullable String traceparent) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         if (userId != null) {
             headers.set(USER_ID, String.valueOf(userId));
         }
+        if (traceparent != null) {
+            headers.set(TracingFilter.TRACEPARENT, traceparent);
+        }
         return headers;
     }
 
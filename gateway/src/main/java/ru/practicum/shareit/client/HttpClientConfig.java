@@ -0,0 +1,157 @@
+package ru.practicum.shareit.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.tracing.Tracer;
+
+import javax.net.ssl.SSLContext;
+import java.security.GeneralSecurityException;
+
+/**
+ * One connection pool to the server for all {@link BaseClient} subclasses. All TLS connections are opened
+ * from the same {@link SSLContext}, so a new connection can resume a cached session instead of a full handshake.
+ * The context is created for this pool, so its session timeout does not change the JVM-wide default context.
+ * With {@code shareit-server.reactive=true} the clients use a Reactor Netty pool with the same limits instead.
+ */
+@Configuration
+@EnableConfigurationProperties({HttpClientProperties.class, ConcurrencyLimitProperties.class,
+        RouteGuardProperties.class})
+public class HttpClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager serverConnectionManager(HttpClientProperties properties) {
+        SSLContext sslContext = serverSslContext();
+        sslContext.getClientSessionContext().setSessionTimeout(Math.toIntExact(properties.getTlsSessionTimeout().toSeconds()));
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                        .build())
+                .setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+                        .setSslContext(sslContext)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient serverHttpClient(PoolingHttpClientConnectionManager serverConnectionManager,
+                                                HttpClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(serverConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .disableConnectionState()
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory serverRequestFactory(CloseableHttpClient serverHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = "shareit-server.reactive", havingValue = "true")
+    public ConnectionProvider serverConnectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder("shareit-server")
+                .maxConnections(properties.getMaxConnectionsPerRoute())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleTimeout())
+                .maxLifeTime(properties.getTimeToLive())
+                .evictInBackground(properties.getIdleTimeout())
+                .lifo()
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.reactive", havingValue = "true")
+    public ReactorClientHttpConnector serverHttpConnector(ConnectionProvider serverConnectionProvider,
+                                                         HttpClientProperties properties) {
+        return new ReactorClientHttpConnector(HttpClient.create(serverConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.getConnectTimeout().toMillis()))
+                .responseTimeout(properties.getResponseTimeout()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.coalescing", havingValue = "true", matchIfMissing = true)
+    public RequestCoalescer requestCoalescer(MeterRegistry meterRegistry) {
+        return new RequestCoalescer(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.route-guard.enabled", havingValue = "true", matchIfMissing = true)
+    public RouteGuards routeGuards(RouteGuardProperties properties) {
+        return new RouteGuards(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.route-guard.enabled", havingValue = "true", matchIfMissing = true)
+    public RouteGuardEndpoint routeGuardEndpoint(RouteGuards routeGuards) {
+        return new RouteGuardEndpoint(routeGuards);
+    }
+
+    @Bean
+    public ServerClientFactory serverClientFactory(@Value("${shareit-server.url}") String serverUrl,
+                                                   @Value("${shareit-server.passthrough:false}") boolean passthrough,
+                                                   @Value("${shareit-server.reactive:false}") boolean reactive,
+                                                   ObjectProvider<RequestCoalescer> requestCoalescer,
+                                                   ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter,
+                                                   ObjectProvider<RouteGuards> routeGuards,
+                                                   ObjectProvider<Tracer> tracer,
+                                                   RestTemplateBuilder restTemplateBuilder,
+                                                   ClientHttpRequestFactory serverRequestFactory,
+                                                   ObjectProvider<ReactorClientHttpConnector> serverHttpConnector,
+                                                   WebClient.Builder webClientBuilder) {
+        return new ServerClientFactory(serverUrl, passthrough, requestCoalescer.getIfAvailable(),
+                concurrencyLimiter.getIfAvailable(), routeGuards.getIfAvailable(), tracer.getIfAvailable(),
+                restTemplateBuilder, serverRequestFactory,
+                reactive ? webClientBuilder.clientConnector(serverHttpConnector.getObject()) : null);
+    }
+
+    private static SSLContext serverSslContext() {
+        try {
+            return SSLContexts.custom().build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Не удалось создать SSL-контекст для соединений с сервером", e);
+        }
+    }
+}
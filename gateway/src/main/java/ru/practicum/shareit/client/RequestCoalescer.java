@@ -0,0 +1,82 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lets identical concurrent server calls share one upstream request. A call is identified by method, path
+ * template with its parameters and the user it is made for. The first caller sends the request, callers that
+ * arrive while it is in flight get the same response or error. Once the response arrives the next call is
+ * sent again, so a response is never reused after it completed.
+ */
+public class RequestCoalescer {
+    private final ConcurrentMap<Key, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("gateway.coalescing.requests", requests, AtomicLong::get)
+                .description("Server calls eligible for coalescing")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.coalescing.coalesced", coalesced, AtomicLong::get)
+                .description("Server calls answered by a request already in flight")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.ratio", this, RequestCoalescer::ratio)
+                .description("Share of eligible server calls answered by a request already in flight")
+                .register(meterRegistry);
+    }
+
+    public Mono<ResponseEntity<Object>> execute(HttpMethod method, String path, @Nullable Long userId,
+                                                @Nullable Map<String, Object> parameters,
+                                                Supplier<Mono<ResponseEntity<Object>>> call) {
+        return Mono.defer(() -> {
+            requests.incrementAndGet();
+            Key key = new Key(method, path, parameters == null ? Map.of() : parameters, userId);
+            CompletableFuture<ResponseEntity<Object>> flight = new CompletableFuture<>();
+            CompletableFuture<ResponseEntity<Object>> current = inFlight.putIfAbsent(key, flight);
+            if (current != null) {
+                coalesced.incrementAndGet();
+                return Mono.fromFuture(current, true);
+            }
+            call.get().subscribe(response -> {
+                inFlight.remove(key, flight);
+                flight.complete(response);
+            }, error -> {
+                inFlight.remove(key, flight);
+                flight.completeExceptionally(error);
+            }, () -> {
+                inFlight.remove(key, flight);
+                flight.complete(null);
+            });
+            return Mono.fromFuture(flight, true);
+        });
+    }
+
+    private double ratio() {
+        long total = requests.get();
+        return total == 0 ? 0 : (double) coalesced.get() / total;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final HttpMethod method;
+        private final String path;
+        private final Map<String, Object> parameters;
+        private final Long userId;
+    }
+}
@@ -0,0 +1,170 @@
+package ru.practicum.shareit.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import ru.practicum.shareit.exceptions.ServiceUnavailableException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulkhead and circuit breaker of one server route. The bulkhead caps the calls in flight on the route, so a
+ * slow route cannot take the connections and threads of the others. The breaker keeps the outcome of the last
+ * {@code windowSize} calls: a call fails on an I/O error, a 5xx response or when it takes longer than
+ * {@code slowCallDuration}. Once the failure rate reaches the threshold the breaker opens and rejects calls
+ * for {@code openDuration}, then lets {@code halfOpenProbes} calls through and closes when all of them
+ * succeed or opens again on the first failure. Rejected calls fail with {@link ServiceUnavailableException},
+ * which is not counted as a failure of the route.
+ */
+public class RouteGuard {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Permit {
+        REJECTED, CALL, PROBE
+    }
+
+    private final String route;
+    private final RouteGuardProperties properties;
+    private final Semaphore bulkhead;
+    private final boolean[] window;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final AtomicLong bulkheadRejectedCalls = new AtomicLong();
+    private State state = State.CLOSED;
+    private int position;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public RouteGuard(String route, RouteGuardProperties properties) {
+        this.route = route;
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+        this.window = new boolean[properties.getWindowSize()];
+    }
+
+    public Mono<ResponseEntity<Object>> execute(Mono<ResponseEntity<Object>> call) {
+        return Mono.defer(() -> {
+            Permit permit = acquirePermit(System.nanoTime());
+            if (permit == Permit.REJECTED) {
+                rejectedCalls.incrementAndGet();
+                return Mono.error(new ServiceUnavailableException("Сервер не справляется с запросами " + route
+                        + ", повторите позже"));
+            }
+            if (!bulkhead.tryAcquire()) {
+                onIgnored(permit);
+                bulkheadRejectedCalls.incrementAndGet();
+                return Mono.error(new ServiceUnavailableException("Слишком много одновременных запросов " + route));
+            }
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(response -> onResult(permit, start,
+                            response != null && response.getStatusCode().is5xxServerError()))
+                    .doOnError(error -> {
+                        if (error instanceof ServiceUnavailableException) {
+                            onIgnored(permit);
+                        } else {
+                            onResult(permit, start, true);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        bulkhead.release();
+                        if (signal == SignalType.CANCEL) {
+                            onIgnored(permit);
+                        }
+                    });
+        });
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(currentState(System.nanoTime()), calls == 0 ? 0 : (double) failures / calls, calls,
+                properties.getMaxConcurrentCalls() - bulkhead.availablePermits(), rejectedCalls.get(),
+                bulkheadRejectedCalls.get());
+    }
+
+    private synchronized Permit acquirePermit(long now) {
+        State current = currentState(now);
+        if (current == State.CLOSED) {
+            return Permit.CALL;
+        }
+        if (current == State.HALF_OPEN && probesInFlight + probeSuccesses < properties.getHalfOpenProbes()) {
+            probesInFlight++;
+            return Permit.PROBE;
+        }
+        return Permit.REJECTED;
+    }
+
+    private State currentState(long now) {
+        if (state == State.OPEN && now - openedAt >= properties.getOpenDuration().toNanos()) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        return state;
+    }
+
+    private synchronized void onResult(Permit permit, long start, boolean failed) {
+        long now = System.nanoTime();
+        boolean failure = failed || now - start > properties.getSlowCallDuration().toNanos();
+        if (permit == Permit.PROBE && state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (failure) {
+                open(now);
+            } else if (++probeSuccesses >= properties.getHalfOpenProbes()) {
+                close();
+            }
+        } else if (permit == Permit.CALL && state == State.CLOSED) {
+            record(failure);
+            if (calls >= properties.getMinimumCalls()
+                    && failures >= properties.getFailureRateThreshold() * calls) {
+                open(now);
+            }
+        }
+    }
+
+    private synchronized void onIgnored(Permit permit) {
+        if (permit == Permit.PROBE && state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (calls == window.length) {
+            failures -= window[position] ? 1 : 0;
+        } else {
+            calls++;
+        }
+        window[position] = failure;
+        failures += failure ? 1 : 0;
+        position = (position + 1) % window.length;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final State state;
+        private final double failureRate;
+        private final int bufferedCalls;
+        private final int activeCalls;
+        private final long rejectedCalls;
+        private final long bulkheadRejectedCalls;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+@Endpoint(id = "routes")
+public class RouteGuardEndpoint {
+    private final RouteGuards routeGuards;
+
+    public RouteGuardEndpoint(RouteGuards routeGuards) {
+        this.routeGuards = routeGuards;
+    }
+
+    @ReadOperation
+    public Map<String, RouteGuard.Snapshot> routes() {
+        return routeGuards.snapshot();
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.route-guard")
+public class RouteGuardProperties {
+    private boolean enabled = true;
+    private int maxConcurrentCalls = 50;
+    private int windowSize = 20;
+    private int minimumCalls = 10;
+    private double failureRateThreshold = 0.5;
+    private Duration slowCallDuration = Duration.ofSeconds(5);
+    private Duration openDuration = Duration.ofSeconds(10);
+    private int halfOpenProbes = 3;
+}
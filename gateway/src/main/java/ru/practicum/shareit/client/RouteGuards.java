@@ -0,0 +1,40 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RouteGuard} per server route. A route is the method and the path without its query, with numeric
+ * segments replaced by {@code {id}}, so {@code GET /bookings/5} and {@code GET /bookings/7} share a guard.
+ */
+public class RouteGuards {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final RouteGuardProperties properties;
+    private final ConcurrentMap<String, RouteGuard> guards = new ConcurrentHashMap<>();
+
+    public RouteGuards(RouteGuardProperties properties) {
+        this.properties = properties;
+    }
+
+    public RouteGuard guard(HttpMethod method, String path) {
+        return guards.computeIfAbsent(route(method, path), route -> new RouteGuard(route, properties));
+    }
+
+    public Map<String, RouteGuard.Snapshot> snapshot() {
+        Map<String, RouteGuard.Snapshot> snapshot = new TreeMap<>();
+        guards.forEach((route, guard) -> snapshot.put(route, guard.snapshot()));
+        return snapshot;
+    }
+
+    static String route(HttpMethod method, String path) {
+        int query = path.indexOf('?');
+        String withoutQuery = query < 0 ? path : path.substring(0, query);
+        return method.name() + " " + ID_SEGMENT.matcher(withoutQuery).replaceAll("/{id}");
+    }
+}
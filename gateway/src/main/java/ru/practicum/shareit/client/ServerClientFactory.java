@@ -0,0 +1,68 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.tracing.Tracer;
+
+/**
+ * Builds the server clients of a {@link BaseClient} for one path prefix. Without a {@link WebClient.Builder}
+ * requests go through the blocking {@link RestTemplate}, otherwise through the non-blocking {@link WebClient}.
+ */
+public class ServerClientFactory {
+    private final String serverUrl;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final ClientHttpRequestFactory requestFactory;
+    private final WebClient.Builder webClientBuilder;
+    @Getter
+    private final boolean passthrough;
+    @Getter
+    @Nullable
+    private final RequestCoalescer coalescer;
+    @Getter
+    @Nullable
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    @Getter
+    @Nullable
+    private final RouteGuards routeGuards;
+    @Getter
+    @Nullable
+    private final Tracer tracer;
+
+    public ServerClientFactory(String serverUrl, boolean passthrough, @Nullable RequestCoalescer coalescer,
+                               @Nullable AdaptiveConcurrencyLimiter concurrencyLimiter,
+                               @Nullable RouteGuards routeGuards, @Nullable Tracer tracer,
+                               RestTemplateBuilder restTemplateBuilder, ClientHttpRequestFactory requestFactory,
+                               @Nullable WebClient.Builder webClientBuilder) {
+        this.serverUrl = serverUrl;
+        this.passthrough = passthrough;
+        this.coalescer = coalescer;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.routeGuards = routeGuards;
+        this.tracer = tracer;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.requestFactory = requestFactory;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    public RestTemplate restTemplate(String prefix) {
+        return restTemplateBuilder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + prefix))
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+
+    @Nullable
+    public WebClient webClient(String prefix) {
+        if (webClientBuilder == null) {
+            return null;
+        }
+        return webClientBuilder.clone()
+                .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + prefix))
+                .build();
+    }
+}
@@ -1,11 +1,20 @@
 package ru.practicum.shareit.exceptions;
 
+import io.netty.handler.timeout.ReadTimeoutException;
 import jakarta.validation.ValidationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice
 public class ErrorHandler {
@@ -22,6 +31,39 @@ public class ErrorHandler {
         return new ErrorResponse("Некорректный параметр в запросе: ", exception.getMessage());
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(final TooManyRequestsException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(new ErrorResponse("Слишком много запросов.", exception.getMessage()));
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler
+    public ErrorResponse handleServiceUnavailable(final ServiceUnavailableException exception) {
+        return new ErrorResponse("Сервис временно недоступен.", exception.getMessage());
+    }
+
+    @ExceptionHandler({ResourceAccessException.class, WebClientRequestException.class})
+    public ResponseEntity<ErrorResponse> handleServerUnreachable(final RuntimeException exception) {
+        boolean timeout = false;
+        for (Throwable cause = exception; cause != null && !timeout; cause = cause.getCause()) {
+            timeout = cause instanceof SocketTimeoutException || cause instanceof TimeoutException
+                    || cause instanceof ReadTimeoutException;
+        }
+        if (timeout) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(new ErrorResponse("Сервер не ответил вовремя.", exception.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(new ErrorResponse("Сервер недоступен.", exception.getMessage()));
+    }
+
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    @ExceptionHandler
+    public ErrorResponse handleAsyncRequestTimeout(final AsyncRequestTimeoutException exception) {
+        return new ErrorResponse("Сервер не ответил вовремя.", "Истекло время ожидания ответа");
+    }
 
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(Duration retryAfter) {
+        super("Превышен лимит запросов, повторите через " + seconds(retryAfter) + " с");
+        this.retryAfterSeconds = seconds(retryAfter);
+    }
+
+    private static long seconds(Duration duration) {
+        return Math.max(1, (duration.toMillis() + 999) / 1000);
+    }
+}
@@ -1,58 +1,76 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerClientFactory;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.NewCommentDto;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
-    @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public ItemClient(ServerClientFactory clientFactory) {
+        super(clientFactory, API_PREFIX);
     }
 
-    public ResponseEntity<Object> getAll(Long userId) {
+    public Mono<ResponseEntity<Object>> getAll(Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getById(Long userId, Long itemId) {
+    public Mono<ResponseEntity<Object>> getById(Long userId, Long itemId) {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> search(Long userId, String text) {
-        Map<String, Object> parameters = Map.of("text", text);
-        return get("/search", userId, parameters);
+    public Mono<ResponseEntity<Object>> getInventory(Long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/inventory?size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/inventory?size={size}&cursor={cursor}", userId, parameters);
     }
 
-    public ResponseEntity<Object> save(Long userId, ItemDto newItem) {
+    public Mono<ResponseEntity<Object>> search(Long userId, String text, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text == null ? "" : text);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/search?text={text}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/search?text={text}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getAvailability(Long userId, Long itemId, String from, String to) {
+        Map<String, Object> parameters = Map.of("from", from, "to", to);
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getNextFreeSlot(Long userId, Long itemId, String duration) {
+        Map<String, Object> parameters = Map.of("duration", duration);
+        return get("/" + itemId + "/next-free-slot?duration={duration}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> save(Long userId, ItemDto newItem) {
         return post("", userId, newItem);
     }
 
-    public ResponseEntity<Object> update(Long userId, Long itemId, ItemDto item) {
+    public Mono<ResponseEntity<Object>> update(Long userId, Long itemId, ItemDto item) {
         return patch("/" + itemId, userId, item);
     }
 
-    public void deleteById(Long userId, Long itemId) {
-        delete("/" + itemId, userId);
+    public Mono<ResponseEntity<Object>> deleteById(Long userId, Long itemId) {
+        return delete("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> create(Long userId, Long itemId, NewCommentDto newCommentDto) {
+    public Mono<ResponseEntity<Object>> create(Long userId, Long itemId, NewCommentDto newCommentDto) {
         return post("/" + itemId + "/comment", userId, newCommentDto);
     }
 }
\ No newline at end of file
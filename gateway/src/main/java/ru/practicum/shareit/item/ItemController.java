@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,10 +18,12 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.NewCommentDto;
 
 import static ru.practicum.shareit.util.Constants.ERROR_USER_ID;
+import static ru.practicum.shareit.util.Constants.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 @RestController
@@ -32,58 +35,87 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAll(@RequestHeader(USER_ID)
-                                         @Positive(message = ERROR_USER_ID) Long userId) {
+    public Mono<ResponseEntity<Object>> getAll(@RequestHeader(USER_ID)
+                                               @Positive(message = ERROR_USER_ID) Long userId) {
         log.info("Get all Items by owner id: {}", userId);
         return itemClient.getAll(userId);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> get(@RequestHeader(USER_ID)
-                                      @Positive(message = ERROR_USER_ID) Long userId,
-                                      @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId) {
+    public Mono<ResponseEntity<Object>> get(@RequestHeader(USER_ID)
+                                            @Positive(message = ERROR_USER_ID) Long userId,
+                                            @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId) {
         log.info("Get item by id: {}, user id: {}", itemId, userId);
         return itemClient.getById(userId, itemId);
     }
 
+    @GetMapping("/inventory")
+    public Mono<ResponseEntity<Object>> getInventory(@RequestHeader(USER_ID)
+                                                     @Positive(message = ERROR_USER_ID) Long userId,
+                                                     @RequestParam(name = "cursor", required = false) String cursor,
+                                                     @Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = "10") Integer size) {
+        log.info("Get inventory of owner id: {}, cursor={}, size={}", userId, cursor, size);
+        return itemClient.getInventory(userId, cursor, size);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Object> search(@RequestHeader(USER_ID)
-                                         @Positive(message = ERROR_USER_ID) Long userId,
-                                         @RequestParam(name = "text", required = false) String text) {
-        log.info("Get item by text: {}, user id: {}", text, userId);
-        return itemClient.search(userId, text);
+    public Mono<ResponseEntity<Object>> search(@RequestHeader(USER_ID)
+                                               @Positive(message = ERROR_USER_ID) Long userId,
+                                               @RequestParam(name = "text", required = false) String text,
+                                               @RequestParam(name = "cursor", required = false) String cursor,
+                                               @Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = "10") Integer size) {
+        log.info("Get item by text: {}, user id: {}, cursor={}, size={}", text, userId, cursor, size);
+        return itemClient.search(userId, text, cursor, size);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Object>> getAvailability(@RequestHeader(USER_ID)
+                                                        @Positive(message = ERROR_USER_ID) Long userId,
+                                                        @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId,
+                                                        @RequestParam String from,
+                                                        @RequestParam String to) {
+        log.info("Get availability of item id: {} from {} to {}, user id: {}", itemId, from, to, userId);
+        return itemClient.getAvailability(userId, itemId, from, to);
+    }
+
+    @GetMapping("/{itemId}/next-free-slot")
+    public Mono<ResponseEntity<Object>> getNextFreeSlot(@RequestHeader(USER_ID)
+                                                        @Positive(message = ERROR_USER_ID) Long userId,
+                                                        @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId,
+                                                        @RequestParam String duration) {
+        log.info("Get next free slot of item id: {} for duration {}, user id: {}", itemId, duration, userId);
+        return itemClient.getNextFreeSlot(userId, itemId, duration);
     }
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(USER_ID)
-                                      @Positive(message = ERROR_USER_ID) Long userId,
-                                      @Valid @RequestBody ItemDto newItem) {
+    public Mono<ResponseEntity<Object>> add(@RequestHeader(USER_ID)
+                                            @Positive(message = ERROR_USER_ID) Long userId,
+                                            @Valid @RequestBody ItemDto newItem) {
         log.info("Create item by owner id: {}", userId);
         return itemClient.save(userId, newItem);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> update(@RequestHeader(USER_ID)
-                                         @Positive(message = ERROR_USER_ID) Long userId,
-                                         @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId,
-                                         @RequestBody ItemDto item) {
+    public Mono<ResponseEntity<Object>> update(@RequestHeader(USER_ID)
+                                               @Positive(message = ERROR_USER_ID) Long userId,
+                                               @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId,
+                                               @RequestBody ItemDto item) {
         log.info("Update item by id: {}, user id: {}, new item: {}", itemId, userId, item);
         return itemClient.update(userId, itemId, item);
     }
 
     @DeleteMapping("/{itemId}")
-    public ResponseEntity<Object> delete(@RequestHeader(USER_ID)
-                                         @Positive(message = ERROR_USER_ID) Long userId,
-                                         @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId) {
+    public Mono<ResponseEntity<Object>> delete(@RequestHeader(USER_ID)
+                                               @Positive(message = ERROR_USER_ID) Long userId,
+                                               @PathVariable @Positive(message = "Id вещи должен быть положительным числом") Long itemId) {
         log.info("Delete item by id: {}, user id: {}", itemId, userId);
-        itemClient.deleteById(userId, itemId);
-        return new ResponseEntity<Object>(HttpStatus.OK);
+        return itemClient.deleteById(userId, itemId).map(response -> new ResponseEntity<Object>(HttpStatus.OK));
     }
 
     @PostMapping("/{id}/comment")
-    public ResponseEntity<Object> create(@RequestHeader(USER_ID) Long userId,
-                                         @PathVariable(name = "id") Long itemId,
-                                         @Valid @RequestBody NewCommentDto newCommentDto) {
+    public Mono<ResponseEntity<Object>> create(@RequestHeader(USER_ID) Long userId,
+                                               @PathVariable(name = "id") Long itemId,
+                                               @Valid @RequestBody NewCommentDto newCommentDto) {
         log.info("Create comment: {} for item by id: {}, user id: {}", newCommentDto, itemId, userId);
         return itemClient.create(userId, itemId, newCommentDto);
     }
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.exceptions.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+/**
+ * Charges every request to the read or write budget of its user, or of the client address for requests
+ * without a valid user id. Async dispatches of the same request are not charged again.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        String client = client(request);
+        boolean write = !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+        long wait = rateLimiter.tryAcquire(client, write);
+        if (wait == 0) {
+            return true;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        meterRegistry.counter("gateway.ratelimit.throttled",
+                "route", Objects.toString(route, "unknown"),
+                "method", request.getMethod(),
+                "budget", write ? "write" : "read").increment();
+        throw new TooManyRequestsException(Duration.ofNanos(wait));
+    }
+
+    /**
+     * Keys the bucket by the parsed user id, so spellings of one id share a bucket and arbitrary header values
+     * cannot open new ones.
+     */
+    private static String client(HttpServletRequest request) {
+        String userId = request.getHeader(USER_ID);
+        if (userId != null) {
+            try {
+                long id = Long.parseLong(userId);
+                if (id > 0) {
+                    return "user:" + id;
+                }
+            } catch (NumberFormatException ignored) {
+                // charged to the client address below
+            }
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read and write token buckets per client. A bucket left alone long enough to refill behaves exactly like a new
+ * one, so buckets of clients idle for {@code idleTimeout} are dropped, and at most {@code maxBuckets} are kept,
+ * least recently used first out. The idle timeout should exceed the time a budget takes to refill completely.
+ */
+public class RateLimiter {
+    private final Cache<String, ClientBuckets> buckets;
+    private final RateLimitProperties properties;
+    private final Ticker ticker;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .ticker(ticker)
+                .build();
+        Gauge.builder("gateway.ratelimit.buckets", buckets, Cache::estimatedSize)
+                .description("Clients whose rate limit budgets are kept in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns zero when the request of {@code client} fits its budget, otherwise the time in nanoseconds
+     * until it would.
+     */
+    public long tryAcquire(String client, boolean write) {
+        long now = ticker.read();
+        ClientBuckets clientBuckets = buckets.get(client, key -> new ClientBuckets(properties, now));
+        return (write ? clientBuckets.write : clientBuckets.read).tryConsume(now);
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private static final class ClientBuckets {
+        private final TokenBucket read;
+        private final TokenBucket write;
+
+        ClientBuckets(RateLimitProperties properties, long now) {
+            this.read = new TokenBucket(properties.getRead(), now);
+            this.write = new TokenBucket(properties.getWrite(), now);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count it keeps the time at which the bucket will be full again,
+ * so taking a token is a single compare-and-set that also accounts for the refill since the previous request.
+ */
+public class TokenBucket {
+    private final long interval;
+    private final long burst;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(RateLimitProperties.Budget budget, long now) {
+        this.interval = Math.round(TimeUnit.SECONDS.toNanos(1) / budget.getRefillPerSecond());
+        this.burst = budget.getCapacity() * interval;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token at {@code now}, see {@link System#nanoTime()}. Returns zero when a token was taken,
+     * otherwise the time in nanoseconds until one becomes available.
+     */
+    public long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            long excess = next - now - burst;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
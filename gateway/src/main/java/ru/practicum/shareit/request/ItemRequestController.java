@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.NewItemRequestDto;
 
 import static ru.practicum.shareit.util.Constants.ERROR_USER_ID;
@@ -27,28 +28,28 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader(USER_ID)
-                                         @Positive(message = ERROR_USER_ID) Long userId,
-                                         @Valid @RequestBody NewItemRequestDto newItemRequestDto) {
+    public Mono<ResponseEntity<Object>> create(@RequestHeader(USER_ID)
+                                               @Positive(message = ERROR_USER_ID) Long userId,
+                                               @Valid @RequestBody NewItemRequestDto newItemRequestDto) {
         log.info("Create request on item, user id: {}", userId);
         return itemRequestClient.createItemRequest(userId, newItemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUser(@RequestHeader(USER_ID)
-                                               @Positive(message = ERROR_USER_ID) Long userId) {
+    public Mono<ResponseEntity<Object>> getAllByUser(@RequestHeader(USER_ID)
+                                                     @Positive(message = ERROR_USER_ID) Long userId) {
         log.info("Get all requests on items, by user id: {}", userId);
         return itemRequestClient.getAllByUser(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         log.info("Get all requests on item");
         return itemRequestClient.getAll();
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getById(@PathVariable Long requestId) {
+    public Mono<ResponseEntity<Object>> getById(@PathVariable Long requestId) {
         log.info("Get request on item by id: {}", requestId);
         return itemRequestClient.getById(requestId);
     }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.util.Marker;
 
@@ -29,38 +30,37 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         log.info("Get all users");
         return userClient.getAll();
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> get(@PathVariable
-                                      @Positive(message = ERROR_USER_ID) Long userId) {
+    public Mono<ResponseEntity<Object>> get(@PathVariable
+                                            @Positive(message = ERROR_USER_ID) Long userId) {
         log.info("Get user by id: {}", userId);
         return userClient.getById(userId);
     }
 
     @PostMapping
     @Validated({Marker.OnCreate.class})
-    public ResponseEntity<Object> add(@Valid @RequestBody UserDto newUser) {
+    public Mono<ResponseEntity<Object>> add(@Valid @RequestBody UserDto newUser) {
         log.info("Create user: {}", newUser);
         return userClient.save(newUser);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> update(@PathVariable
-                                         @Positive(message = ERROR_USER_ID) Long userId,
-                                         @Valid @RequestBody UserDto user) {
+    public Mono<ResponseEntity<Object>> update(@PathVariable
+                                               @Positive(message = ERROR_USER_ID) Long userId,
+                                               @Valid @RequestBody UserDto user) {
         log.info("Update user by id: {}", userId);
         return userClient.update(userId, user);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> delete(@PathVariable
-                                         @Positive(message = ERROR_USER_ID) Long userId) {
+    public Mono<ResponseEntity<Object>> delete(@PathVariable
+                                               @Positive(message = ERROR_USER_ID) Long userId) {
         log.info("Delete user by id: {}", userId);
-        userClient.deleteById(userId);
-        return new ResponseEntity<Object>(HttpStatus.OK);
+        return userClient.deleteById(userId).map(response -> new ResponseEntity<Object>(HttpStatus.OK));
     }
 }
\ No newline at end of file
@@ -4,5 +4,9 @@ public final class Constants {
 
     public static final String USER_ID = "X-Sharer-User-Id";
 
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    public static final int MAX_PAGE_SIZE = 100;
+
     public static final String ERROR_USER_ID = "Id пользователя должен быть положительным числом";
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import ru.practicum.shareit.exceptions.ServiceUnavailableException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveConcurrencyLimiterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void testInitialization() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(100);
+        properties.setWriteReserve(0.2);
+        properties.setSmoothing(1);
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    void limit_withSteadyLatencyAndHalfOfLimitInUse_thenGrowLimit() {
+        List<Sinks.One<String>> calls = hold(5);
+
+        completeLastFirst(calls);
+
+        assertThat(limit(), closeTo(10 + Math.sqrt(10), 1e-9));
+    }
+
+    @Test
+    void limit_withLimitMostlyUnused_thenKeepLimit() {
+        for (int i = 0; i < 20; i++) {
+            limiter.limit(false, Mono.just("ok")).block();
+        }
+
+        assertThat(limit(), equalTo(10.0));
+    }
+
+    @Test
+    void limit_whenLatencyRises_thenShrinkLimit() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            limiter.limit(false, Mono.just("ok")).block();
+        }
+        List<Sinks.One<String>> calls = hold(5);
+        Thread.sleep(50);
+
+        completeLastFirst(calls);
+
+        assertThat(limit(), closeTo(10 * 0.5 + Math.sqrt(10), 1e-9));
+    }
+
+    @Test
+    void limit_whenCallFails_thenCutLimitDownToMinimum() {
+        Mono<String> failing = Mono.error(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> limiter.limit(false, failing).block());
+        assertThat(limit(), closeTo(9.0, 1e-9));
+        assertThrows(IllegalStateException.class, () -> limiter.limit(true, failing).block());
+        assertThat(limit(), closeTo(8.1, 1e-9));
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IllegalStateException.class, () -> limiter.limit(false, failing).block());
+        }
+        assertThat(limit(), equalTo(4.0));
+    }
+
+    @Test
+    void limit_withReadsAtReserve_thenShedReadsAndAdmitWrites() {
+        hold(8);
+
+        assertThrows(ServiceUnavailableException.class, () -> limiter.limit(false, Mono.just("ok")).block());
+        assertThat(shed("read"), equalTo(1.0));
+
+        limiter.limit(true, Sinks.<String>one().asMono()).subscribe();
+        limiter.limit(true, Sinks.<String>one().asMono()).subscribe();
+        assertThat(meterRegistry.get("gateway.concurrency.in-flight").gauge().value(), equalTo(10.0));
+
+        assertThrows(ServiceUnavailableException.class, () -> limiter.limit(true, Mono.just("ok")).block());
+        assertThat(shed("write"), equalTo(1.0));
+        assertThat(shed("read"), equalTo(1.0));
+    }
+
+    @Test
+    void limit_afterCallsComplete_thenReleaseSlots() {
+        completeLastFirst(hold(8));
+
+        assertThat(meterRegistry.get("gateway.concurrency.in-flight").gauge().value(), equalTo(0.0));
+        assertThat(limiter.limit(false, Mono.just("ok")).block(), equalTo("ok"));
+        assertThat(shed("read"), equalTo(0.0));
+    }
+
+    private List<Sinks.One<String>> hold(int count) {
+        List<Sinks.One<String>> calls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Sinks.One<String> call = Sinks.one();
+            limiter.limit(false, call.asMono()).subscribe();
+            calls.add(call);
+        }
+        return calls;
+    }
+
+    /**
+     * Completes the call admitted last first, so the sample taken with the most calls in flight decides
+     * the new limit.
+     */
+    private static void completeLastFirst(List<Sinks.One<String>> calls) {
+        for (int i = calls.size() - 1; i >= 0; i--) {
+            calls.get(i).tryEmitValue("ok");
+        }
+    }
+
+    private double limit() {
+        return meterRegistry.get("gateway.concurrency.limit").gauge().value();
+    }
+
+    private double shed(String priority) {
+        return meterRegistry.get("gateway.concurrency.shed").tag("priority", priority).counter().count();
+    }
+}
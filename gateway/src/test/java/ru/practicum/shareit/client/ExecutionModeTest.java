@@ -0,0 +1,106 @@
+package ru.practicum.shareit.client;
+
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.util.Constants.NEXT_CURSOR;
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+/**
+ * Requests that must be served alike in blocking and reactive mode, with and without passthrough.
+ * Subclasses pick the mode and their own stub server.
+ */
+@SpringBootTest(properties = {
+        "shareit-server.coalescing=false",
+        "shareit-server.concurrency-limit.enabled=false",
+        "shareit-server.route-guard.enabled=false",
+        "shareit.rate-limit.enabled=false",
+        "shareit-server.http.response-timeout=300ms"})
+@AutoConfigureMockMvc
+abstract class ExecutionModeTest {
+    protected final MockMvc mvc;
+    protected final StubServer server;
+
+    ExecutionModeTest(MockMvc mvc, StubServer server) {
+        this.mvc = mvc;
+        this.server = server;
+    }
+
+    @Test
+    void search_withSizeAboveLimit_thenBadRequestWithoutServerCall() throws Exception {
+        mvc.perform(get("/items/search").header(USER_ID, 1).param("text", "drill").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(server.requests("/items/search"), equalTo(0));
+    }
+
+    @Test
+    void add_withInvalidEmail_thenBadRequestWithoutServerCall() throws Exception {
+        mvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"user\",\"email\":\"user.mail.ru\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(server.requests("/users"), equalTo(0));
+    }
+
+    @Test
+    void get_withServerError_thenPassStatusThrough() throws Exception {
+        server.respond("/users/1", 404);
+
+        mvc.perform(asyncDispatch(mvc.perform(get("/users/1")).andReturn()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAll_withNextPage_thenPassNextCursorThrough() throws Exception {
+        server.header("/items", NEXT_CURSOR, "42");
+
+        mvc.perform(asyncDispatch(mvc.perform(get("/items").header(USER_ID, 1)).andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(NEXT_CURSOR, "42"))
+                .andExpect(content().json("{}"));
+    }
+
+    @Test
+    void get_whenServerTimesOut_thenGatewayTimeout() throws Exception {
+        server.delay("/users/2", Duration.ofSeconds(1));
+
+        mvc.perform(asyncDispatch(mvc.perform(get("/users/2")).andReturn()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("Сервер не ответил вовремя."));
+    }
+
+    @Test
+    void get_thenWaitForServerWithinAsyncRequestTimeout() throws Exception {
+        MvcResult result = mvc.perform(get("/users/3")).andReturn();
+
+        assertThat(asyncContext(result).getTimeout(), equalTo(Duration.ofSeconds(40).toMillis()));
+    }
+
+    protected static MockAsyncContext asyncContext(MvcResult result) {
+        return (MockAsyncContext) result.getRequest().getAsyncContext();
+    }
+
+    protected static void expireAsyncRequest(MvcResult result) throws Exception {
+        for (AsyncListener listener : asyncContext(result).getListeners()) {
+            listener.onTimeout(null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@TestPropertySource(properties = {"shareit-server.reactive=false", "shareit-server.passthrough=true"})
+class PassthroughExecutionModeTest extends ExecutionModeTest {
+    private static final StubServer SERVER = new StubServer();
+
+    @Autowired
+    PassthroughExecutionModeTest(MockMvc mvc) {
+        super(mvc, SERVER);
+    }
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", SERVER::url);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+}
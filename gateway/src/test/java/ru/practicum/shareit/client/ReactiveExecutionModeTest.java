@@ -0,0 +1,49 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "shareit-server.reactive=true")
+class ReactiveExecutionModeTest extends ExecutionModeTest {
+    private static final StubServer SERVER = new StubServer();
+
+    @Autowired
+    ReactiveExecutionModeTest(MockMvc mvc) {
+        super(mvc, SERVER);
+    }
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", SERVER::url);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void get_whenAsyncRequestTimesOut_thenGatewayTimeout() throws Exception {
+        SERVER.delay("/users/4", Duration.ofMillis(200));
+
+        MvcResult result = mvc.perform(get("/users/4")).andReturn();
+        expireAsyncRequest(result);
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("Сервер не ответил вовремя."));
+    }
+}
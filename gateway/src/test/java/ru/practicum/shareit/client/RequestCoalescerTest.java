@@ -0,0 +1,144 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "shareit-server.coalescing=true",
+        "shareit-server.concurrency-limit.enabled=false",
+        "shareit-server.route-guard.enabled=false",
+        "shareit-server.http.response-timeout=300ms"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RequestCoalescerTest {
+    private static final StubServer SERVER = new StubServer();
+    private static final Duration IN_FLIGHT = Duration.ofMillis(250);
+
+    private final ItemClient itemClient;
+    private final UserClient userClient;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", SERVER::url);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void execute_withConcurrentIdenticalGets_thenCallServerOnce() throws Exception {
+        SERVER.delay("/items/1", IN_FLIGHT);
+        double coalescedBefore = count("gateway.coalescing.coalesced");
+
+        List<CompletableFuture<ResponseEntity<Object>>> calls = concurrently(List.of(
+                () -> itemClient.getById(1L, 1L), () -> itemClient.getById(1L, 1L),
+                () -> itemClient.getById(1L, 1L), () -> itemClient.getById(1L, 1L)));
+
+        for (CompletableFuture<ResponseEntity<Object>> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+        }
+        assertThat(SERVER.requests("/items/1"), equalTo(1));
+        assertThat(count("gateway.coalescing.coalesced") - coalescedBefore, equalTo(3.0));
+        assertThat(meterRegistry.get("gateway.coalescing.ratio").gauge().value(), closeTo(
+                count("gateway.coalescing.coalesced") / count("gateway.coalescing.requests"), 1e-9));
+    }
+
+    @Test
+    void execute_afterResponseArrived_thenCallServerAgain() {
+        itemClient.getById(1L, 2L).block();
+        itemClient.getById(1L, 2L).block();
+
+        assertThat(SERVER.requests("/items/2"), equalTo(2));
+    }
+
+    @Test
+    void execute_withDifferentUsers_thenNotCoalesce() throws Exception {
+        SERVER.delay("/items/3", IN_FLIGHT);
+
+        awaitAll(concurrently(List.of(() -> itemClient.getById(1L, 3L), () -> itemClient.getById(2L, 3L))));
+
+        assertThat(SERVER.requests("/items/3"), equalTo(2));
+    }
+
+    @Test
+    void execute_withDifferentQueryParameters_thenNotCoalesce() throws Exception {
+        SERVER.delay("/items/search", IN_FLIGHT);
+
+        awaitAll(concurrently(List.of(() -> itemClient.search(1L, "drill", null, 10),
+                () -> itemClient.search(1L, "saw", null, 10), () -> itemClient.search(1L, "saw", null, 20))));
+
+        assertThat(SERVER.requests("/items/search"), equalTo(3));
+    }
+
+    @Test
+    void execute_whenServerCallFails_thenPassErrorToAllWaiters() throws Exception {
+        SERVER.delay("/users/4", Duration.ofSeconds(1));
+
+        List<CompletableFuture<ResponseEntity<Object>>> calls = concurrently(List.of(
+                () -> userClient.getById(4L), () -> userClient.getById(4L), () -> userClient.getById(4L)));
+
+        for (CompletableFuture<ResponseEntity<Object>> call : calls) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertThat(exception.getCause(), instanceOf(ResourceAccessException.class));
+        }
+        assertThat(SERVER.requests("/users/4"), equalTo(1));
+    }
+
+    /**
+     * Starts every call on its own thread and returns once all of them have joined the coalescer, while the
+     * server is still holding the first response.
+     */
+    private List<CompletableFuture<ResponseEntity<Object>>> concurrently(
+            List<Supplier<Mono<ResponseEntity<Object>>>> calls) {
+        double requestsBefore = count("gateway.coalescing.requests");
+        List<CompletableFuture<ResponseEntity<Object>>> futures = new ArrayList<>();
+        for (Supplier<Mono<ResponseEntity<Object>>> call : calls) {
+            futures.add(CompletableFuture.supplyAsync(() -> call.get().block(), executor));
+        }
+        while (count("gateway.coalescing.requests") - requestsBefore < calls.size()) {
+            Thread.onSpinWait();
+        }
+        return futures;
+    }
+
+    private static void awaitAll(List<CompletableFuture<ResponseEntity<Object>>> calls) throws Exception {
+        for (CompletableFuture<ResponseEntity<Object>> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).functionCounter().count();
+    }
+}
@@ -0,0 +1,126 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.exceptions.ServiceUnavailableException;
+import ru.practicum.shareit.request.ItemRequestClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "shareit-server.coalescing=false",
+        "shareit-server.concurrency-limit.enabled=false",
+        "shareit-server.route-guard.max-concurrent-calls=2",
+        "shareit-server.route-guard.window-size=4",
+        "shareit-server.route-guard.minimum-calls=4",
+        "shareit-server.route-guard.slow-call-duration=300ms",
+        "shareit-server.route-guard.open-duration=200ms",
+        "shareit-server.route-guard.half-open-probes=2"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RouteGuardTest {
+    private static final StubServer SERVER = new StubServer();
+
+    private final UserClient userClient;
+    private final BookingClient bookingClient;
+    private final ItemRequestClient itemRequestClient;
+    private final RouteGuardEndpoint routeGuardEndpoint;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", SERVER::url);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Nested
+    class TestCircuitBreaker {
+        @Test
+        void getById_whenServerFails_thenOpenAndRejectWithoutCallingServer() {
+            SERVER.respond("/users/1", 500);
+            for (int i = 0; i < 4; i++) {
+                assertThat(userClient.getById(1L).block().getStatusCode(), equalTo(HttpStatus.INTERNAL_SERVER_ERROR));
+            }
+
+            assertThrows(ServiceUnavailableException.class, () -> userClient.getById(1L).block());
+            assertThat(SERVER.requests("/users/1"), equalTo(4));
+            assertThat(state("GET /users/{id}"), equalTo(RouteGuard.State.OPEN));
+        }
+
+        @Test
+        void getAll_afterOpenDuration_thenProbeAndClose() throws InterruptedException {
+            SERVER.respond("/users", 503);
+            for (int i = 0; i < 4; i++) {
+                userClient.getAll().block();
+            }
+            assertThat(state("GET /users"), equalTo(RouteGuard.State.OPEN));
+
+            SERVER.respond("/users", 200);
+            Thread.sleep(250);
+
+            assertThat(userClient.getAll().block().getStatusCode(), equalTo(HttpStatus.OK));
+            assertThat(state("GET /users"), equalTo(RouteGuard.State.HALF_OPEN));
+            assertThat(userClient.getAll().block().getStatusCode(), equalTo(HttpStatus.OK));
+            assertThat(state("GET /users"), equalTo(RouteGuard.State.CLOSED));
+        }
+
+        @Test
+        void getBooking_whenProbeSlow_thenOpenAgain() throws InterruptedException {
+            SERVER.respond("/bookings/2", 500);
+            for (int i = 0; i < 4; i++) {
+                bookingClient.getBooking(1L, 2L).block();
+            }
+            SERVER.respond("/bookings/2", 200);
+            SERVER.delay("/bookings/2", Duration.ofMillis(400));
+            Thread.sleep(250);
+
+            assertThat(bookingClient.getBooking(1L, 2L).block().getStatusCode(), equalTo(HttpStatus.OK));
+
+            assertThat(state("GET /bookings/{id}"), equalTo(RouteGuard.State.OPEN));
+            assertThrows(ServiceUnavailableException.class, () -> bookingClient.getBooking(1L, 2L).block());
+        }
+    }
+
+    @Nested
+    class TestBulkhead {
+        @Test
+        void getById_whenRouteSaturated_thenRejectOnlyThatRoute() throws Exception {
+            SERVER.delay("/requests/5", Duration.ofMillis(250));
+            CompletableFuture<ResponseEntity<Object>> first = CompletableFuture.supplyAsync(
+                    () -> itemRequestClient.getById(5L).block());
+            CompletableFuture<ResponseEntity<Object>> second = CompletableFuture.supplyAsync(
+                    () -> itemRequestClient.getById(5L).block());
+            while (SERVER.requests("/requests/5") < 2) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(ServiceUnavailableException.class, () -> itemRequestClient.getById(5L).block());
+            assertThat(itemRequestClient.getAllByUser(1L).block().getStatusCode(), equalTo(HttpStatus.OK));
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+            assertThat(second.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+            assertThat(routeGuardEndpoint.routes().get("GET /requests/{id}").getBulkheadRejectedCalls(), equalTo(1L));
+        }
+    }
+
+    private RouteGuard.State state(String route) {
+        return routeGuardEndpoint.routes().get(route).getState();
+    }
+}
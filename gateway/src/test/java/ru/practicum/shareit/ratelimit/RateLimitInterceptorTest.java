@@ -0,0 +1,99 @@
+package ru.practicum.shareit.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import ru.practicum.shareit.client.StubServer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+@SpringBootTest(properties = {
+        "shareit-server.coalescing=false",
+        "shareit-server.concurrency-limit.enabled=false",
+        "shareit.rate-limit.read.capacity=1",
+        "shareit.rate-limit.read.refill-per-second=0.5",
+        "shareit.rate-limit.write.capacity=1",
+        "shareit.rate-limit.write.refill-per-second=0.5"})
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RateLimitInterceptorTest {
+    private static final StubServer SERVER = new StubServer();
+
+    private final MockMvc mvc;
+    private final MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", SERVER::url);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void preHandle_withReadBudgetUsed_thenRespondTooManyRequestsWithRetryAfter() throws Exception {
+        assertOk(get("/items/1").header(USER_ID, 1));
+
+        mvc.perform(get("/items/1").header(USER_ID, 1))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+
+        assertThat(meterRegistry.get("gateway.ratelimit.throttled").tag("budget", "read").tag("route", "/items/{itemId}")
+                .counter().count(), equalTo(1.0));
+        assertThat(SERVER.requests("/items/1"), equalTo(1));
+    }
+
+    @Test
+    void preHandle_withReadBudgetUsed_thenAllowWritesAndOtherUsers() throws Exception {
+        assertOk(get("/items/2").header(USER_ID, 2));
+
+        assertOk(post("/items/2/comment").header(USER_ID, 2)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"text\":\"good\"}"));
+        assertOk(get("/items/2").header(USER_ID, 3));
+        mvc.perform(get("/items/2").header(USER_ID, 2))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void preHandle_withSameUserIdSpelledDifferently_thenShareBudget() throws Exception {
+        assertOk(get("/items/4").header(USER_ID, "4"));
+
+        mvc.perform(get("/items/4").header(USER_ID, "04"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void preHandle_withInvalidUserIds_thenChargeClientAddress() throws Exception {
+        mvc.perform(get("/items/5").header(USER_ID, "user-a"));
+
+        mvc.perform(get("/items/5").header(USER_ID, "user-b"))
+                .andExpect(status().isTooManyRequests());
+        mvc.perform(get("/items/5").header(USER_ID, "-5"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private void assertOk(RequestBuilder request) throws Exception {
+        MvcResult result = mvc.perform(request).andReturn();
+        mvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+}
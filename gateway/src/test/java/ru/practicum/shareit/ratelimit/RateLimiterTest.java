@@ -0,0 +1,77 @@
+package ru.practicum.shareit.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+class RateLimiterTest {
+    private final AtomicLong now = new AtomicLong(Duration.ofHours(1).toNanos());
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void testInitialization() {
+        properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Budget(2, 1));
+        properties.setWrite(new RateLimitProperties.Budget(1, 1));
+        properties.setIdleTimeout(Duration.ofSeconds(10));
+        properties.setMaxBuckets(100);
+    }
+
+    @Test
+    void tryAcquire_withWriteBudgetUsed_thenStillAllowReads() {
+        RateLimiter rateLimiter = rateLimiter();
+
+        assertThat(rateLimiter.tryAcquire("user:1", true), equalTo(0L));
+        assertThat(rateLimiter.tryAcquire("user:1", true), greaterThan(0L));
+
+        assertThat(rateLimiter.tryAcquire("user:1", false), equalTo(0L));
+        assertThat(rateLimiter.tryAcquire("user:1", false), equalTo(0L));
+        assertThat(rateLimiter.tryAcquire("user:1", false), greaterThan(0L));
+    }
+
+    @Test
+    void tryAcquire_withOtherClientThrottled_thenAllowRequest() {
+        RateLimiter rateLimiter = rateLimiter();
+        rateLimiter.tryAcquire("user:1", true);
+
+        assertThat(rateLimiter.tryAcquire("user:1", true), greaterThan(0L));
+        assertThat(rateLimiter.tryAcquire("user:2", true), equalTo(0L));
+    }
+
+    @Test
+    void tryAcquire_afterIdleTimeout_thenDropBuckets() {
+        RateLimiter rateLimiter = rateLimiter();
+        rateLimiter.tryAcquire("user:1", false);
+        rateLimiter.tryAcquire("user:2", true);
+        assertThat(rateLimiter.size(), equalTo(2L));
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        rateLimiter.tryAcquire("user:2", false);
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertThat(rateLimiter.size(), equalTo(1L));
+    }
+
+    @Test
+    void tryAcquire_withMoreClientsThanMaxBuckets_thenKeepMaxBuckets() {
+        properties.setMaxBuckets(10);
+        RateLimiter rateLimiter = rateLimiter();
+
+        for (int i = 0; i < 50; i++) {
+            rateLimiter.tryAcquire("user:" + i, false);
+        }
+
+        assertThat(rateLimiter.size(), equalTo(10L));
+    }
+
+    private RateLimiter rateLimiter() {
+        return new RateLimiter(properties, new SimpleMeterRegistry(), now::get);
+    }
+}
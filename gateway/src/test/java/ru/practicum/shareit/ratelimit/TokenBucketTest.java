@@ -0,0 +1,44 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final long start = 1_000 * SECOND;
+
+    @Test
+    void tryConsume_withFullBucket_thenAllowBurstOfCapacity() {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Budget(3, 1), start);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(start), equalTo(0L));
+        }
+        assertThat(bucket.tryConsume(start), equalTo(SECOND));
+    }
+
+    @Test
+    void tryConsume_afterRefillInterval_thenAllowOneMoreToken() {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Budget(2, 4), start);
+        bucket.tryConsume(start);
+        bucket.tryConsume(start);
+
+        assertThat(bucket.tryConsume(start + SECOND / 8), equalTo(SECOND / 8));
+        assertThat(bucket.tryConsume(start + SECOND / 4), equalTo(0L));
+        assertThat(bucket.tryConsume(start + SECOND / 4), equalTo(SECOND / 4));
+    }
+
+    @Test
+    void tryConsume_afterLongIdle_thenRefillOnlyToCapacity() {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Budget(2, 1), start);
+        long later = start + 60 * SECOND;
+
+        assertThat(bucket.tryConsume(later), equalTo(0L));
+        assertThat(bucket.tryConsume(later), equalTo(0L));
+        assertThat(bucket.tryConsume(later), equalTo(SECOND));
+    }
+}
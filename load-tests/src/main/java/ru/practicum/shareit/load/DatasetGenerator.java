@@ -0,0 +1,276 @@
+package ru.practicum.shareit.load;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+/**
+ * Replaces the contents of a ShareIt database with a synthetic dataset sized by {@link LoadDataset}. The server
+ * recreates the schema on startup, so the generator has to run after the server has started.
+ *
+ * <p>Bookings of an item follow each other without overlapping over the last two years and the next three
+ * months, with log-normal durations and exponential gaps, so popular items are booked back to back and current
+ * bookings exist. Past bookings are mostly approved, future ones are often still waiting. Comments are written by
+ * bookers of finished approved bookings, shortly after the end of the booking.
+ */
+public final class DatasetGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    private static final Duration HISTORY = Duration.ofDays(730);
+    private static final Duration HORIZON = Duration.ofDays(90);
+    private static final double MEDIAN_BOOKING_HOURS = 48;
+    private static final double BOOKING_HOURS_SIGMA = 1.0;
+    private static final double MEAN_COMMENT_DELAY_HOURS = 24;
+    private static final double ANSWERED_REQUEST_SHARE = 0.1;
+    private static final String[] TABLES = {"comments", "bookings", "items", "item_requests", "users"};
+
+    private final Connection connection;
+    private final LoadDataset dataset;
+    private final Random random;
+    private final boolean postgres;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    private long commentCount;
+
+    private DatasetGenerator(Connection connection, LoadDataset dataset, Random random) throws SQLException {
+        this.connection = connection;
+        this.dataset = dataset;
+        this.random = random;
+        this.postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        LoadOptions options = new LoadOptions(args);
+        LoadDataset dataset = LoadDataset.of(options);
+        try (Connection connection = DriverManager.getConnection(
+                options.get("url", "jdbc:postgresql://localhost:5432/shareit?reWriteBatchedInserts=true"),
+                options.get("username", "dbuser"),
+                options.get("password", "12345"))) {
+            connection.setAutoCommit(false);
+            new DatasetGenerator(connection, dataset, new Random(options.getLong("seed", 42))).generate();
+        }
+    }
+
+    private void generate() throws SQLException {
+        step("clear", this::clear);
+        step("users", this::insertUsers);
+        step("item_requests", this::insertRequests);
+        step("items", this::insertItems);
+        step("bookings", this::insertBookingsAndComments);
+        System.out.printf("%-14s %,10d rows%n", "comments", commentCount);
+        step("identities", this::resetIdentities);
+        if (postgres) {
+            step("analyze", () -> execute("analyze"));
+        }
+    }
+
+    private long clear() throws SQLException {
+        if (postgres) {
+            return execute("truncate table " + String.join(", ", TABLES));
+        }
+        for (String table : TABLES) {
+            execute("delete from " + table);
+        }
+        return 0;
+    }
+
+    private long insertUsers() throws SQLException {
+        try (Batch batch = new Batch("insert into users (id, name, email) values (?, ?, ?)")) {
+            for (long id = 1; id <= dataset.getUsers(); id++) {
+                batch.statement.setLong(1, id);
+                batch.statement.setString(2, "user" + id);
+                batch.statement.setString(3, "user" + id + "@load.shareit.ru");
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    private long insertRequests() throws SQLException {
+        long history = Duration.ofDays(365).toSeconds();
+        try (Batch batch = new Batch("insert into item_requests (id, requestor_id, description, created) "
+                                     + "values (?, ?, ?, ?)")) {
+            for (long id = 1; id <= dataset.getRequests(); id++) {
+                batch.statement.setLong(1, id);
+                batch.statement.setLong(2, 1 + random.nextInt(dataset.getUsers()));
+                batch.statement.setString(3, "нужен " + dataset.searchText(random) + " на выходные");
+                batch.statement.setTimestamp(4, Timestamp.from(now.minusSeconds(random.nextLong(history))));
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    private long insertItems() throws SQLException {
+        try (Batch batch = new Batch("insert into items (id, owner_id, name, description, available, request_id) "
+                                     + "values (?, ?, ?, ?, ?, ?)")) {
+            for (long id = 1; id <= dataset.getItems(); id++) {
+                String name = dataset.nameOf(id);
+                batch.statement.setLong(1, id);
+                batch.statement.setLong(2, dataset.ownerOf(id));
+                batch.statement.setString(3, name);
+                batch.statement.setString(4, name + " в хорошем состоянии, item " + id);
+                batch.statement.setBoolean(5, dataset.isAvailable(id));
+                if (dataset.getRequests() > 0 && random.nextDouble() < ANSWERED_REQUEST_SHARE) {
+                    batch.statement.setLong(6, 1 + random.nextInt(dataset.getRequests()));
+                } else {
+                    batch.statement.setNull(6, Types.BIGINT);
+                }
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    private long insertBookingsAndComments() throws SQLException {
+        long windowHours = HISTORY.plus(HORIZON).toHours();
+        long firstHour = now.minus(HISTORY).getEpochSecond() / 3600;
+        long lastHour = firstHour + windowHours;
+        long nowHour = now.getEpochSecond() / 3600;
+        double pastApproved = dataset.getBookings() * 0.85 * HISTORY.toHours() / windowHours;
+        double commentChance = pastApproved > 0 ? Math.min(1, dataset.getComments() / pastApproved) : 0;
+        long bookingId = 0;
+        try (Batch bookings = new Batch("insert into bookings (id, booker_id, item_id, owner_id, start_date, end_date, "
+                                        + "status) values (?, ?, ?, ?, ?, ?, ?)");
+             Batch comments = new Batch("insert into comments (id, item_id, user_id, text, created) "
+                                        + "values (?, ?, ?, ?, ?)")) {
+            for (long itemId = 1; itemId <= dataset.getItems(); itemId++) {
+                double expected = dataset.getBookings() * popularityShare(itemId);
+                if (expected < random.nextDouble()) {
+                    continue;
+                }
+                double cycle = windowHours / Math.max(1, expected);
+                long owner = dataset.ownerOf(itemId);
+                long hour = firstHour + exponentialHours(cycle);
+                while (hour < lastHour) {
+                    long duration = Math.min(logNormalHours(), Math.max(1, (long) (cycle / 2)));
+                    long end = hour + duration;
+                    String status = status(hour, end, nowHour);
+                    long booker = dataset.otherUser(random, owner);
+                    bookings.statement.setLong(1, ++bookingId);
+                    bookings.statement.setLong(2, booker);
+                    bookings.statement.setLong(3, itemId);
+                    bookings.statement.setLong(4, owner);
+                    bookings.statement.setTimestamp(5, hours(hour));
+                    bookings.statement.setTimestamp(6, hours(end));
+                    bookings.statement.setString(7, status);
+                    bookings.add();
+                    if (end <= nowHour && "APPROVED".equals(status) && random.nextDouble() < commentChance) {
+                        long created = Math.min(nowHour, end + exponentialHours(MEAN_COMMENT_DELAY_HOURS));
+                        comments.statement.setLong(1, ++commentCount);
+                        comments.statement.setLong(2, itemId);
+                        comments.statement.setLong(3, booker);
+                        comments.statement.setString(4, "Всё отлично, " + dataset.nameOf(itemId) + " как новый");
+                        comments.statement.setTimestamp(5, hours(created));
+                        comments.add();
+                    }
+                    hour = end + exponentialHours(Math.max(0, cycle - duration));
+                }
+            }
+            return bookings.rows;
+        }
+    }
+
+    private long resetIdentities() throws SQLException {
+        for (String table : TABLES) {
+            long next;
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery("select coalesce(max(id), 0) + 1 from " + table)) {
+                result.next();
+                next = result.getLong(1);
+            }
+            execute(postgres
+                    ? "select setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)"
+                    : "alter table " + table + " alter column id restart with " + next);
+        }
+        return TABLES.length;
+    }
+
+    /**
+     * Share of bookings that {@link LoadDataset#popularItem} would give the item.
+     */
+    private double popularityShare(long itemId) {
+        double items = dataset.getItems();
+        return Math.cbrt(itemId / items) - Math.cbrt((itemId - 1) / items);
+    }
+
+    private String status(long start, long end, long nowHour) {
+        double draw = random.nextDouble();
+        if (end <= nowHour) {
+            return draw < 0.85 ? "APPROVED" : draw < 0.95 ? "REJECTED" : "CANCELED";
+        }
+        if (start <= nowHour) {
+            return "APPROVED";
+        }
+        return draw < 0.55 ? "APPROVED" : draw < 0.9 ? "WAITING" : "REJECTED";
+    }
+
+    private long logNormalHours() {
+        return Math.max(1, Math.round(MEDIAN_BOOKING_HOURS * Math.exp(BOOKING_HOURS_SIGMA * random.nextGaussian())));
+    }
+
+    private long exponentialHours(double mean) {
+        return Math.round(-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    private static Timestamp hours(long epochHour) {
+        return Timestamp.from(Instant.ofEpochSecond(epochHour * 3600));
+    }
+
+    private long execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        connection.commit();
+        return 0;
+    }
+
+    private void step(String name, Step step) throws SQLException {
+        long started = System.nanoTime();
+        long rows = step.run();
+        connection.commit();
+        System.out.printf("%-14s %,10d rows in %,d ms%n", name, rows,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private interface Step {
+        long run() throws SQLException;
+    }
+
+    private final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private long rows;
+        private int pending;
+
+        Batch(String sql) throws SQLException {
+            statement = connection.prepareStatement(sql);
+        }
+
+        void add() throws SQLException {
+            statement.addBatch();
+            rows++;
+            if (++pending == BATCH_SIZE) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
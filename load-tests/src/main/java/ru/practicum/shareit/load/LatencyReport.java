@@ -0,0 +1,70 @@
+package ru.practicum.shareit.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Latency histograms in microseconds and response outcome counts per operation.
+ */
+public final class LatencyReport {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, ConcurrentMap<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+
+    public LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void record(Operation operation, long latencyNanos, String outcome) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS);
+        histograms.get(operation).recordValue(micros);
+        outcomes.get(operation).computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    public void print(PrintStream out, Duration measured) {
+        out.printf("%-28s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "route", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        Map<String, Long> totalOutcomes = new TreeMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            Map<String, Long> counts = new TreeMap<>();
+            outcomes.get(operation).forEach((outcome, count) -> counts.put(outcome, count.sum()));
+            counts.forEach((outcome, count) -> totalOutcomes.merge(outcome, count, Long::sum));
+            printRow(out, operation.getRoute(), histogram, counts, measured);
+        }
+        printRow(out, "total", total, totalOutcomes, measured);
+    }
+
+    private static void printRow(PrintStream out, String route, Histogram histogram, Map<String, Long> outcomes,
+                                 Duration measured) {
+        out.printf("%-28s %9d %9.1f", route, histogram.getTotalCount(),
+                histogram.getTotalCount() / (measured.toMillis() / 1000.0));
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf(" %9.2f  %s%n", histogram.getMaxValue() / 1000.0, outcomes.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(" ")));
+    }
+}
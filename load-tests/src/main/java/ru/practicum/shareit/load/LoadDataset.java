@@ -0,0 +1,88 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+
+import java.util.Random;
+
+/**
+ * Sizes of the generated dataset and the id layout shared by {@link DatasetGenerator} and {@link LoadDriver}.
+ * Ids start at 1 in every table. Owners, availability and names are derived from the item id, so the driver
+ * knows them without reading the database. A few users own most of the items and low item ids are the most
+ * popular ones.
+ */
+@Getter
+public final class LoadDataset {
+    private static final String[] WORDS = {"дрель", "перфоратор", "лестница", "палатка", "велосипед", "шуруповёрт",
+            "самокат", "генератор", "drill", "ladder", "tent", "bicycle", "kayak", "projector", "camera", "tripod",
+            "saw", "hammer", "sup", "grill"};
+    private static final double OWNER_SKEW = 3;
+    private static final double POPULARITY_SKEW = 3;
+    private static final double UNAVAILABLE_SHARE = 0.1;
+
+    private final int users;
+    private final int items;
+    private final int requests;
+    private final int bookings;
+    private final int comments;
+
+    private LoadDataset(int users, int items, int requests, int bookings, int comments) {
+        if (users < 2 || items < 1) {
+            throw new IllegalArgumentException("At least 2 users and 1 item are required");
+        }
+        this.users = users;
+        this.items = items;
+        this.requests = requests;
+        this.bookings = bookings;
+        this.comments = comments;
+    }
+
+    public static LoadDataset of(LoadOptions options) {
+        return new LoadDataset(
+                options.getInt("users", 10_000),
+                options.getInt("items", 50_000),
+                options.getInt("requests", 5_000),
+                options.getInt("bookings", 500_000),
+                options.getInt("comments", 100_000));
+    }
+
+    public long ownerOf(long itemId) {
+        return 1 + (long) (users * Math.pow(unit(itemId), OWNER_SKEW));
+    }
+
+    public boolean isAvailable(long itemId) {
+        return unit(~itemId) >= UNAVAILABLE_SHARE;
+    }
+
+    public String nameOf(long itemId) {
+        long hash = mix(itemId);
+        return WORDS[(int) Long.remainderUnsigned(hash, WORDS.length)] + " "
+               + WORDS[(int) Long.remainderUnsigned(hash >>> 32, WORDS.length)];
+    }
+
+    /**
+     * Picks an item with probability decreasing with its id.
+     */
+    public long popularItem(Random random) {
+        return 1 + (long) (items * Math.pow(random.nextDouble(), POPULARITY_SKEW));
+    }
+
+    public long otherUser(Random random, long userId) {
+        long other = 1 + random.nextInt(users - 1);
+        return other >= userId ? other + 1 : other;
+    }
+
+    public String searchText(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static double unit(long id) {
+        return (mix(id) >>> 11) * 0x1.0p-53;
+    }
+
+    private static long mix(long id) {
+        long z = id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
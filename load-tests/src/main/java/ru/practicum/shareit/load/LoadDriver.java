@@ -0,0 +1,253 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a mix of gateway calls against a dataset loaded by {@link DatasetGenerator}. The load is open-loop:
+ * requests start on a Poisson schedule at the target rate whether or not earlier ones have completed, and
+ * latency is measured from the scheduled start. A stalled server therefore shows up as latency rather than as a
+ * lower request rate. Requests scheduled during the warmup are sent but not recorded.
+ */
+public final class LoadDriver {
+    private static final String USER_ID = "X-Sharer-User-Id";
+    private static final String[] STATES = {"ALL", "ALL", "CURRENT", "PAST", "FUTURE", "WAITING"};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final Duration BOOKING_SLOT_OFFSET = Duration.ofDays(400);
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final URI gateway;
+    private final LoadDataset dataset;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration timeout;
+    private final Operation[] operations;
+    private final double[] cumulativeWeights;
+    private final Random random;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyReport report = new LatencyReport();
+    private final Queue<long[]> waitingBookings = new ConcurrentLinkedQueue<>();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final Instant firstSlot = Instant.now().plus(BOOKING_SLOT_OFFSET).truncatedTo(ChronoUnit.HOURS);
+    private long nextSlot;
+
+    private LoadDriver(LoadOptions options) {
+        this.gateway = URI.create(options.get("url", "http://localhost:8080"));
+        this.dataset = LoadDataset.of(options);
+        this.rate = options.getDouble("rate", 200);
+        this.warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        this.duration = options.getDuration("duration", Duration.ofSeconds(60));
+        this.timeout = options.getDuration("timeout", Duration.ofSeconds(10));
+        this.random = new Random(options.getLong("seed", 42));
+        Map<Operation, Double> mix = parseMix(options.get("mix", ""));
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new double[operations.length];
+        double sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        LoadDriver driver = new LoadDriver(new LoadOptions(args));
+        driver.run();
+        driver.report.print(System.out, driver.duration);
+    }
+
+    private void run() {
+        System.out.printf("%.1f req/s against %s, warmup %s, measured %s%n", rate, gateway, warmup, duration);
+        long start = System.nanoTime();
+        long measuredFrom = start + warmup.toNanos();
+        long end = measuredFrom + duration.toNanos();
+        long nextProgress = start + PROGRESS_INTERVAL.toNanos();
+        double meanInterval = TimeUnit.SECONDS.toNanos(1) / rate;
+        double scheduled = start;
+        long sent = 0;
+        while (true) {
+            scheduled += -meanInterval * Math.log(1 - random.nextDouble());
+            long at = (long) scheduled;
+            if (at >= end) {
+                break;
+            }
+            for (long wait = at - System.nanoTime(); wait > 0; wait = at - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pick(), at, at >= measuredFrom);
+            sent++;
+            if (at >= nextProgress) {
+                System.out.printf("%4ds  sent %,d  in flight %,d%n",
+                        TimeUnit.NANOSECONDS.toSeconds(at - start), sent, inFlight.get());
+                nextProgress += PROGRESS_INTERVAL.toNanos();
+            }
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private void send(Operation operation, long scheduled, boolean measured) {
+        if (operation == Operation.APPROVE_BOOKING && waitingBookings.isEmpty()) {
+            operation = Operation.CREATE_BOOKING;
+        }
+        Operation sentOperation = operation;
+        HttpRequest request = request(operation);
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            long latency = System.nanoTime() - scheduled;
+            inFlight.decrementAndGet();
+            if (measured) {
+                report.record(sentOperation, latency, outcome(response, error));
+            }
+            boolean created = response != null && response.statusCode() / 100 == 2;
+            if (sentOperation == Operation.CREATE_BOOKING && created) {
+                waitingBookings.add(createdBooking(response.body()));
+            }
+        });
+    }
+
+    private HttpRequest request(Operation operation) {
+        return switch (operation) {
+            case SEARCH -> get("/items/search?text="
+                               + URLEncoder.encode(dataset.searchText(random), StandardCharsets.UTF_8), randomUser());
+            case ITEM -> get("/items/" + dataset.popularItem(random), randomUser());
+            case OWNER_BOOKINGS -> get("/bookings/owner?state=" + STATES[random.nextInt(STATES.length)],
+                    dataset.ownerOf(dataset.popularItem(random)));
+            case CREATE_BOOKING -> {
+                long itemId = availableItem();
+                yield builder("/bookings", dataset.otherUser(random, dataset.ownerOf(itemId)))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(bookingBody(itemId)))
+                        .build();
+            }
+            case APPROVE_BOOKING -> {
+                long[] booking = waitingBookings.poll();
+                yield builder("/bookings/" + booking[0] + "?approved=true", booking[1])
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Every created booking gets its own future hour, so approving it never conflicts with another approved
+     * booking of the same item. The slot starts one second past the hour because the gateway writes a
+     * {@link LocalDateTime} without zero seconds, which the server does not accept.
+     */
+    private String bookingBody(long itemId) {
+        Instant start = firstSlot.plus(Duration.ofHours(nextSlot++)).plusSeconds(1);
+        Instant end = start.plus(Duration.ofMinutes(59));
+        return "{\"itemId\":" + itemId + ",\"start\":\"" + format(start) + "\",\"end\":\"" + format(end) + "\"}";
+    }
+
+    private long availableItem() {
+        long itemId = dataset.popularItem(random);
+        while (!dataset.isAvailable(itemId)) {
+            itemId = dataset.popularItem(random);
+        }
+        return itemId;
+    }
+
+    private long randomUser() {
+        return 1 + random.nextInt(dataset.getUsers());
+    }
+
+    private Operation pick() {
+        double draw = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < operations.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest get(String path, long userId) {
+        return builder(path, userId).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path, long userId) {
+        return HttpRequest.newBuilder(gateway.resolve(path))
+                .timeout(timeout)
+                .header(USER_ID, Long.toString(userId));
+    }
+
+    /**
+     * Returns the id of the booking and the owner of its item, who is the one to approve it.
+     */
+    private long[] createdBooking(String body) {
+        try {
+            JsonNode booking = objectMapper.readTree(body);
+            return new long[]{booking.path("id").asLong(), dataset.ownerOf(booking.path("item").path("id").asLong())};
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String outcome(HttpResponse<String> response, Throwable error) {
+        if (response != null) {
+            return Integer.toString(response.statusCode());
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+
+    private static String format(Instant instant) {
+        return DATE_FORMAT.format(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
+    /**
+     * Parses {@code search=40,item=30}. Operations left out keep their default weight, a weight of 0 disables one.
+     */
+    private static Map<Operation, Double> parseMix(String mix) {
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.getDefaultWeight());
+        }
+        if (!mix.isBlank()) {
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split("=");
+                weights.put(Operation.of(parts[0]), Double.parseDouble(parts[1]));
+            }
+        }
+        weights.values().removeIf(weight -> weight <= 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operations");
+        }
+        return weights;
+    }
+}
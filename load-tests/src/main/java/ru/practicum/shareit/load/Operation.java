@@ -0,0 +1,38 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Gateway calls replayed by {@link LoadDriver}, with their default share of the traffic.
+ */
+@Getter
+public enum Operation {
+    SEARCH("GET /items/search", 40),
+    ITEM("GET /items/{itemId}", 30),
+    OWNER_BOOKINGS("GET /bookings/owner", 20),
+    CREATE_BOOKING("POST /bookings", 6),
+    APPROVE_BOOKING("PATCH /bookings/{bookingId}", 4);
+
+    private final String route;
+    private final double defaultWeight;
+
+    Operation(String route, double defaultWeight) {
+        this.route = route;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key().equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + key);
+    }
+}
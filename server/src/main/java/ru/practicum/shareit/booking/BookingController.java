@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +17,7 @@ import ru.practicum.shareit.booking.service.BookingService;
 
 import java.util.List;
 
+import static ru.practicum.shareit.util.Constants.DEFAULT_PAGE_SIZE;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 @RestController
@@ -39,21 +41,25 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getAllBookings(@RequestHeader(USER_ID) Long userId,
-                                           @RequestParam(defaultValue = "ALL") BookingSelectionState state) {
-        return bookingService.getByBooker(userId, state);
+    public ResponseEntity<List<BookingDto>> getAllBookings(@RequestHeader(USER_ID) Long userId,
+                                                           @RequestParam(defaultValue = "ALL") BookingSelectionState state,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return bookingService.getByBooker(userId, state, cursor, size).toResponse();
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getAllBookingsByOwner(@RequestHeader(USER_ID) Long ownerId,
-                                                  @RequestParam(required = false) BookingSelectionState state) {
-        return bookingService.getByOwner(ownerId, state != null ? state : BookingSelectionState.ALL);
+    public ResponseEntity<List<BookingDto>> getAllBookingsByOwner(@RequestHeader(USER_ID) Long ownerId,
+                                                                  @RequestParam(required = false) BookingSelectionState state,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return bookingService.getByOwner(ownerId, state != null ? state : BookingSelectionState.ALL, cursor, size)
+                .toResponse();
     }
 
-
     @GetMapping("/{bookingId}")
     public BookingDto findById(@RequestHeader(USER_ID) Long userId,
                                @PathVariable long bookingId) {
         return bookingService.getById(userId, bookingId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package ru.practicum.shareit.booking.calendar;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Approved bookings of a single item kept in an AVL tree ordered by (start, id), where every node also
+ * stores the latest end of its subtree. Intervals are half-open: [start, end).
+ */
+public class ItemCalendar {
+    private Node root;
+
+    public synchronized void apply(Booking booking) {
+        root = remove(root, booking.getStart(), booking.getId());
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            root = insert(root, new Node(booking.getId(), booking.getStart(), booking.getEnd()));
+        }
+    }
+
+    public synchronized boolean isFree(Instant from, Instant to) {
+        return firstOverlap(root, from, to) == null;
+    }
+
+    public synchronized Instant findNextFreeSlot(Instant from, Duration duration) {
+        Instant candidate = from;
+        Node blocking = firstOverlap(root, candidate, candidate.plus(duration));
+        while (blocking != null) {
+            candidate = blocking.end;
+            blocking = firstOverlap(root, candidate, candidate.plus(duration));
+        }
+        return candidate;
+    }
+
+    private static Node firstOverlap(Node node, Instant from, Instant to) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return null;
+        }
+        Node found = firstOverlap(node.left, from, to);
+        if (found != null) {
+            return found;
+        }
+        if (!node.start.isBefore(to)) {
+            return null;
+        }
+        if (node.end.isAfter(from)) {
+            return node;
+        }
+        return firstOverlap(node.right, from, to);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private static Node remove(Node node, Instant start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int compare(Instant start, long id, Node node) {
+        int cmp = start.compareTo(node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        Instant maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final long id;
+        private final Instant start;
+        private final Instant end;
+        private Instant maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, Instant start, Instant end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
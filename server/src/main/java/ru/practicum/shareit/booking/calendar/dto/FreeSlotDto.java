@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FreeSlotDto {
+    private Long itemId;
+    private String start;
+    private String end;
+}
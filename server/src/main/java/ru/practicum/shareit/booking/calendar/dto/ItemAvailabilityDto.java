@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemAvailabilityDto {
+    private Long itemId;
+    private String from;
+    private String to;
+    private boolean available;
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.booking.calendar.service;
+
+import ru.practicum.shareit.booking.calendar.dto.FreeSlotDto;
+import ru.practicum.shareit.booking.calendar.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.booking.model.Booking;
+
+public interface ItemCalendarService {
+
+    ItemAvailabilityDto getAvailability(Long userId, Long itemId, String from, String to);
+
+    FreeSlotDto getNextFreeSlot(Long userId, Long itemId, String duration);
+
+    void onBookingChanged(Booking booking);
+
+    void evict(Long itemId);
+}
@@ -0,0 +1,143 @@
+package ru.practicum.shareit.booking.calendar.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.calendar.ItemCalendar;
+import ru.practicum.shareit.booking.calendar.dto.FreeSlotDto;
+import ru.practicum.shareit.booking.calendar.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.NotAvailableException;
+import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.validateService.ValidateService;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calendars are loaded on first use and kept up to date by {@link #onBookingChanged}. The cache is bounded in size
+ * and age, and a calendar is loaded outside the cache, so a slow load does not block other items. A calendar loaded
+ * while a booking was being written is not kept, since the load may have missed the booking.
+ */
+@Service
+public class ItemCalendarServiceImpl implements ItemCalendarService {
+    private static final String CACHE_NAME = "itemCalendar";
+
+    private final BookingRepository bookingRepository;
+    private final ValidateService validateService;
+    private final Cache<Long, ItemCalendar> calendars;
+    private final AtomicLong changes = new AtomicLong();
+
+    public ItemCalendarServiceImpl(BookingRepository bookingRepository,
+                                   ValidateService validateService,
+                                   @Value("${shareit.calendar.cache.max-size:10000}") long maxSize,
+                                   @Value("${shareit.calendar.cache.ttl:10m}") Duration ttl,
+                                   MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.validateService = validateService;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, CACHE_NAME);
+    }
+
+    @Override
+    public ItemAvailabilityDto getAvailability(Long userId, Long itemId, String from, String to) {
+        validateService.checkUser(userId);
+        validateService.checkItem(itemId);
+        Instant start = parseDate(from);
+        Instant end = parseDate(to);
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new NotAvailableException("Некорректный период проверки доступности");
+        }
+        return new ItemAvailabilityDto(itemId, from, to, calendarFor(itemId).isFree(start, end));
+    }
+
+    @Override
+    public FreeSlotDto getNextFreeSlot(Long userId, Long itemId, String duration) {
+        validateService.checkUser(userId);
+        validateService.checkItem(itemId);
+        Duration slotDuration = parseDuration(duration);
+        Instant start = calendarFor(itemId).findNextFreeSlot(Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                slotDuration);
+        return new FreeSlotDto(itemId, InstantMapper.mapInstantToString(start),
+                InstantMapper.mapInstantToString(start.plus(slotDuration)));
+    }
+
+    @Override
+    public void onBookingChanged(Booking booking) {
+        Long bookingItemId = booking.getItem().getId();
+        changes.incrementAndGet();
+        calendars.asMap().computeIfPresent(bookingItemId, (itemId, calendar) -> {
+            calendar.apply(booking);
+            return calendar;
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changes.incrementAndGet();
+                    if (status != STATUS_COMMITTED) {
+                        evict(bookingItemId);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void evict(Long itemId) {
+        calendars.invalidate(itemId);
+    }
+
+    private ItemCalendar calendarFor(Long itemId) {
+        ItemCalendar calendar = calendars.getIfPresent(itemId);
+        if (calendar != null) {
+            return calendar;
+        }
+        long stamp = changes.get();
+        calendar = load(itemId);
+        calendars.put(itemId, calendar);
+        if (changes.get() != stamp) {
+            calendars.invalidate(itemId);
+        }
+        return calendar;
+    }
+
+    private ItemCalendar load(Long itemId) {
+        ItemCalendar calendar = new ItemCalendar();
+        bookingRepository.findByItemIdOrderByStart(itemId).forEach(calendar::apply);
+        return calendar;
+    }
+
+    private Instant parseDate(String date) {
+        try {
+            return InstantMapper.mapStringToInstant(date);
+        } catch (DateTimeException e) {
+            throw new NotAvailableException("Некорректная дата: " + date);
+        }
+    }
+
+    private Duration parseDuration(String duration) {
+        try {
+            Duration parsed = Duration.parse(duration);
+            if (parsed.isNegative() || parsed.isZero()) {
+                throw new NotAvailableException("Длительность должна быть положительной: " + duration);
+            }
+            return parsed;
+        } catch (DateTimeException e) {
+            throw new NotAvailableException("Некорректная длительность: " + duration);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.dto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.util.InstantMapper;
@@ -15,9 +16,24 @@ public interface BookingMapper {
     @Mapping(ignore = true, target = "id")
     @Mapping(source = "dto.start", target = "start")
     @Mapping(source = "dto.end", target = "end")
+    @Mapping(source = "item", target = "item")
+    @Mapping(source = "item.ownerId", target = "ownerId")
     Booking toEntity(NewBookingDto dto, User booker, Item item);
 
     BookingDto toDto(Booking booking);
 
     List<BookingDto> toDto(List<Booking> bookings);
+
+    @Mapping(source = "row.bookerId", target = "booker.id")
+    @Mapping(source = "row.bookerName", target = "booker.name")
+    @Mapping(source = "row.bookerEmail", target = "booker.email")
+    @Mapping(target = "item", expression = "java(toItemDto(row, comments))")
+    BookingDto toDto(BookingRow row, List<String> comments);
+
+    @Mapping(source = "row.itemId", target = "id")
+    @Mapping(source = "row.itemName", target = "name")
+    @Mapping(source = "row.itemDescription", target = "description")
+    @Mapping(source = "row.itemAvailable", target = "available")
+    @Mapping(source = "row.itemRequestId", target = "requestId")
+    ItemDto toItemDto(BookingRow row, List<String> comments);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class BookingRow {
+    private final Long id;
+    private final Instant start;
+    private final Instant end;
+    private final BookingStatus status;
+    private final Long bookerId;
+    private final String bookerName;
+    private final String bookerEmail;
+    private final Long itemId;
+    private final String itemName;
+    private final String itemDescription;
+    private final Boolean itemAvailable;
+    private final Long itemRequestId;
+}
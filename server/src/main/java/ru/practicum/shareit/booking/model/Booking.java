@@ -49,4 +49,10 @@ public class Booking {
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "item_id")
     private Item item;
+
+    /**
+     * Owner of the item, copied on creation so owner lists are served by an index on the bookings table.
+     */
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
 }
\ No newline at end of file
@@ -1,35 +1,36 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingDates;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-
-    List<Booking> findByBookerIdOrderByStart(Long bookerId);
-
-    List<Booking> findByBookerIdAndStatusOrderByStart(Long bookerId, BookingStatus status);
-
-    List<Booking> findByBookerIdAndStartLessThanEqualAndEndGreaterThan(Long bookerId, Instant now, Instant now1);
-
-    List<Booking> findByBookerIdAndEndLessThan(Long bookerId, Instant now);
-
-    List<Booking> findByBookerIdAndStartGreaterThan(Long bookerId, Instant now);
-
-    List<Booking> findByItemOwnerIdOrderByStart(Long ownerId);
-
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingProjectionRepository {
     List<Booking> findByItemIdOrderByStart(Long itemId);
 
-    List<Booking> findByItemOwnerIdAndStatusOrderByStart(Long ownerId, BookingStatus status);
-
-    List<Booking> findByItemOwnerIdAndStartLessThanEqualAndEndGreaterThan(Long ownerId, Instant now, Instant now1);
-
-    List<Booking> findByItemOwnerIdAndEndLessThan(Long ownerId, Instant now);
-
-    List<Booking> findByItemOwnerIdAndStartGreaterThan(Long ownerId, Instant now);
+    @Query("select new ru.practicum.shareit.booking.dto.BookingDates(i.id, "
+           + "(select max(b.start) from Booking b "
+           + "where b.item.id = i.id and b.status = :status and b.start < :now), "
+           + "(select min(b.start) from Booking b "
+           + "where b.item.id = i.id and b.status = :status and b.start > :now)) "
+           + "from Item i where i.id = :itemId")
+    BookingDates findBookingDates(Long itemId, BookingStatus status, Instant now);
+
+    @Query("select new ru.practicum.shareit.booking.dto.BookingDates(b.item.id, "
+           + "max(case when b.start < :now then b.start end), "
+           + "min(case when b.start > :now then b.start end)) "
+           + "from Booking b where b.item.id in :itemIds and b.status = :status "
+           + "group by b.item.id")
+    List<BookingDates> findBookingDatesByItemIdIn(Collection<Long> itemIds, BookingStatus status, Instant now);
 
     List<Booking> findByBookerIdAndItemIdAndStatusAndEndLessThan(Long bookerId, Long itemId, BookingStatus bookingState, Instant now);
-}
\ No newline at end of file
+
+    @Query("select distinct b.item.id from Booking b where b.booker.id = :bookerId")
+    Set<Long> findItemIdsByBookerId(Long bookerId);
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.booking.selection;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import ru.practicum.shareit.booking.dto.BookingRow;
+import ru.practicum.shareit.exceptions.NotAvailableException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class BookingCursor {
+    public static final BookingCursor FIRST = new BookingCursor(Instant.EPOCH, 0L);
+    private static final String SEPARATOR = ":";
+
+    private final Instant start;
+    private final Long id;
+
+    public static BookingCursor of(BookingRow row) {
+        return new BookingCursor(row.getStart(), row.getId());
+    }
+
+    public static BookingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new NotAvailableException("Некорректный курсор: " + token);
+            }
+            Instant start = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new BookingCursor(start, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new NotAvailableException("Некорректный курсор: " + token);
+        }
+    }
+
+    public String encode() {
+        String value = start.getEpochSecond() + SEPARATOR + start.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.booking.selection;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Instant;
+
+public final class BookingSpecifications {
+    private BookingSpecifications() {
+    }
+
+    public static Specification<Booking> byBooker(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("booker").get("id"), userId);
+    }
+
+    public static Specification<Booking> byOwner(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("ownerId"), userId);
+    }
+
+    public static Specification<Booking> inState(BookingSelectionState state, Instant now) {
+        return (root, query, cb) -> switch (state) {
+            case ALL -> null;
+            case WAITING -> cb.equal(root.get("status"), BookingStatus.WAITING);
+            case REJECTED -> cb.equal(root.get("status"), BookingStatus.REJECTED);
+            case CURRENT -> cb.and(cb.lessThanOrEqualTo(root.get("start"), now), cb.greaterThan(root.get("end"), now));
+            case PAST -> cb.lessThan(root.get("end"), now);
+            case FUTURE -> cb.greaterThan(root.get("start"), now);
+        };
+    }
+
+    public static Specification<Booking> afterCursor(BookingCursor cursor) {
+        return (root, query, cb) -> {
+            query.orderBy(cb.asc(root.get("start")), cb.asc(root.get("id")));
+            return cb.or(
+                    cb.greaterThan(root.get("start"), cursor.getStart()),
+                    cb.and(cb.equal(root.get("start"), cursor.getStart()), cb.greaterThan(root.get("id"), cursor.getId())));
+        };
+    }
+}
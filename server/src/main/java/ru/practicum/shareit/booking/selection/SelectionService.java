@@ -1,38 +1,42 @@
 package ru.practicum.shareit.booking.selection;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.dto.BookingRow;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 
+import java.time.Instant;
 import java.util.List;
 
+import static ru.practicum.shareit.booking.selection.BookingSpecifications.afterCursor;
+import static ru.practicum.shareit.booking.selection.BookingSpecifications.byBooker;
+import static ru.practicum.shareit.booking.selection.BookingSpecifications.byOwner;
+import static ru.practicum.shareit.booking.selection.BookingSpecifications.inState;
+
 @Service
 @RequiredArgsConstructor
 public class SelectionService {
     private final BookingRepository repository;
-    private SelectionHandler handler;
 
-    public List<Booking> handleByBooker(Long userId, BookingSelectionState state) {
-        handler = SelectionHandler.link(
-                new ByBookerAll(repository),
-                new ByBookerWaiting(repository),
-                new ByBookerRejected(repository),
-                new ByBookerCurrent(repository),
-                new ByBookerPast(repository),
-                new ByBookerFuture(repository));
-        return handler.handle(userId, state);
+    public List<BookingRow> handleByBooker(Long userId, BookingSelectionState state,
+                                           BookingCursor cursor, Limit limit) {
+        return select(byBooker(userId), state, cursor, limit);
+    }
+
+    public List<BookingRow> handleByOwner(Long userId, BookingSelectionState state,
+                                          BookingCursor cursor, Limit limit) {
+        return select(byOwner(userId), state, cursor, limit);
     }
 
-    public List<Booking> handleByOwner(Long userId, BookingSelectionState state) {
-        handler = SelectionHandler.link(
-                new ByOwnerAll(repository),
-                new ByOwnerWaiting(repository),
-                new ByOwnerRejected(repository),
-                new ByOwnerCurrent(repository),
-                new ByOwnerPast(repository),
-                new ByOwnerFuture(repository));
-        return handler.handle(userId, state);
+    private List<BookingRow> select(Specification<Booking> byUser, BookingSelectionState state,
+                                    BookingCursor cursor, Limit limit) {
+        Specification<Booking> filter = byUser
+                .and(inState(state, Instant.now()))
+                .and(afterCursor(cursor));
+        return repository.findRows(filter, limit);
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,7 @@ package ru.practicum.shareit.booking.service;
 import ru.practicum.shareit.booking.BookingSelectionState;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
-
-import java.util.List;
+import ru.practicum.shareit.util.CursorPage;
 
 public interface BookingService {
 
@@ -14,7 +13,7 @@ public interface BookingService {
 
     BookingDto getById(Long userId, Long bookingId);
 
-    List<BookingDto> getByBooker(Long userId, BookingSelectionState state);
+    CursorPage<BookingDto> getByBooker(Long userId, BookingSelectionState state, String cursor, int size);
 
-    List<BookingDto> getByOwner(Long userId, BookingSelectionState state);
+    CursorPage<BookingDto> getByOwner(Long userId, BookingSelectionState state, String cursor, int size);
 }
\ No newline at end of file
@@ -1,36 +1,55 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.booking.BookingSelectionState;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingRow;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.selection.BookingCursor;
 import ru.practicum.shareit.booking.selection.SelectionService;
+import ru.practicum.shareit.exceptions.BookingOverlapException;
 import ru.practicum.shareit.exceptions.NoAccessException;
 import ru.practicum.shareit.exceptions.NotAvailableException;
+import ru.practicum.shareit.item.dto.ItemComment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.CursorPage;
 import ru.practicum.shareit.validateService.ValidateService;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final String OVERLAP_CONSTRAINT = "booking_approved_no_overlap";
+    private static final String EXCLUSION_VIOLATION = "23P01";
 
     private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
     private final ValidateService validateService;
     private final BookingMapper mapper;
     private final SelectionService selectionService;
+    private final ItemCalendarService calendarService;
 
     @Override
     public BookingDto addBooking(Long userId, NewBookingDto booking) {
-        User booker = validateService.checkUser(userId);
-        Item item = validateService.checkItem(booking.getItemId());
+        User booker = validateService.getUser(userId);
+        Item item = validateService.getItem(booking.getItemId());
         if (item.getOwnerId().equals(userId)) {
             throw new NoAccessException("Владелец вещи не может ее бронировать");
         }
@@ -41,7 +60,9 @@ public class BookingServiceImpl implements BookingService {
         if (newBooking == null) {
             throw new RuntimeException("Не удалось сохранить запрос на бронирование");
         }
-        return mapper.toDto(bookingRepository.save(newBooking));
+        Booking saved = bookingRepository.save(newBooking);
+        calendarService.onBookingChanged(saved);
+        return mapper.toDto(saved);
     }
 
     @Override
@@ -50,12 +71,24 @@ public class BookingServiceImpl implements BookingService {
         if (!isOwnerId(booking, userId)) {
             throw new NoAccessException("Только владелец вещи может изменить статус бронирования");
         }
+        Booking saved;
         if (approved) {
             booking.setStatus(BookingStatus.APPROVED);
+            try {
+                saved = bookingRepository.saveAndFlush(booking);
+            } catch (DataIntegrityViolationException e) {
+                if (!isOverlap(e)) {
+                    throw e;
+                }
+                throw new BookingOverlapException("Вещь уже забронирована на пересекающийся период, id бронирования: "
+                                                  + bookingId);
+            }
         } else {
             booking.setStatus(BookingStatus.REJECTED);
+            saved = bookingRepository.save(booking);
         }
-        return mapper.toDto(bookingRepository.save(booking));
+        calendarService.onBookingChanged(saved);
+        return mapper.toDto(saved);
     }
 
     @Override
@@ -68,18 +101,59 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getByBooker(Long userId, BookingSelectionState state) {
+    public CursorPage<BookingDto> getByBooker(Long userId, BookingSelectionState state, String cursor, int size) {
         validateService.checkUser(userId);
-        return mapper.toDto(selectionService.handleByBooker(userId, state));
+        CursorPage.checkSize(size);
+        return toPage(selectionService.handleByBooker(userId, state, BookingCursor.decode(cursor), Limit.of(size + 1)),
+                size);
     }
 
     @Override
-    public List<BookingDto> getByOwner(Long userId, BookingSelectionState state) {
+    public CursorPage<BookingDto> getByOwner(Long userId, BookingSelectionState state, String cursor, int size) {
         validateService.checkUser(userId);
-        return mapper.toDto(selectionService.handleByOwner(userId, state));
+        CursorPage.checkSize(size);
+        return toPage(selectionService.handleByOwner(userId, state, BookingCursor.decode(cursor), Limit.of(size + 1)),
+                size);
+    }
+
+    private CursorPage<BookingDto> toPage(List<BookingRow> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(toDto(rows), null);
+        }
+        List<BookingRow> page = rows.subList(0, size);
+        return new CursorPage<>(toDto(page), BookingCursor.of(page.getLast()).encode());
+    }
+
+    private List<BookingDto> toDto(List<BookingRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> itemIds = rows.stream()
+                .map(BookingRow::getItemId)
+                .collect(Collectors.toSet());
+        Map<Long, List<String>> comments = itemRepository.findCommentsByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(ItemComment::getItemId,
+                        Collectors.mapping(ItemComment::getText, Collectors.toList())));
+        return rows.stream()
+                .map(row -> mapper.toDto(row, comments.getOrDefault(row.getItemId(), List.of())))
+                .toList();
     }
 
     private boolean isOwnerId(Booking booking, Long userId) {
         return booking.getItem().getOwnerId().equals(userId);
     }
+
+    private static boolean isOverlap(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && OVERLAP_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
@@ -40,6 +40,12 @@ public class ErrorHandler {
         return new ErrorResponse("Неуникальный email: ", exception.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler
+    public ErrorResponse handleBookingOverlap(final BookingOverlapException exception) {
+        return new ErrorResponse("Конфликт бронирования: ", exception.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler
     public ErrorResponse handleNotUniqueEmailFromDB(final DataIntegrityViolationException exception) {
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -11,6 +12,9 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.booking.calendar.dto.FreeSlotDto;
+import ru.practicum.shareit.booking.calendar.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.NewCommentDto;
 import ru.practicum.shareit.item.comment.service.CommentService;
@@ -20,6 +24,7 @@ import ru.practicum.shareit.item.service.ItemService;
 
 import java.util.List;
 
+import static ru.practicum.shareit.util.Constants.DEFAULT_PAGE_SIZE;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 @RestController
@@ -28,6 +33,7 @@ import static ru.practicum.shareit.util.Constants.USER_ID;
 public class ItemController {
     private final ItemService itemService;
     private final CommentService commentService;
+    private final ItemCalendarService calendarService;
 
     @GetMapping
     public List<ItemDto> getAll(@RequestHeader(USER_ID) Long userId) {
@@ -39,10 +45,31 @@ public class ItemController {
         return itemService.get(userId, itemId);
     }
 
+    @GetMapping("/inventory")
+    public ResponseEntity<List<ItemBookingDatesDto>> getInventory(@RequestHeader(USER_ID) Long userId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return itemService.getInventory(userId, cursor, size).toResponse();
+    }
+
     @GetMapping("/search")
-    public List<ItemDto> search(@RequestHeader(USER_ID) Long userId,
-                                @RequestParam(name = "text", required = false) String text) {
-        return itemService.search(userId, text);
+    public ResponseEntity<List<ItemDto>> search(@RequestHeader(USER_ID) Long userId,
+                                                @RequestParam(name = "text", required = false) String text,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return itemService.search(userId, text, cursor, size).toResponse();
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getAvailability(@RequestHeader(USER_ID) Long userId, @PathVariable Long itemId,
+                                               @RequestParam String from, @RequestParam String to) {
+        return calendarService.getAvailability(userId, itemId, from, to);
+    }
+
+    @GetMapping("/{itemId}/next-free-slot")
+    public FreeSlotDto getNextFreeSlot(@RequestHeader(USER_ID) Long userId, @PathVariable Long itemId,
+                                       @RequestParam String duration) {
+        return calendarService.getNextFreeSlot(userId, itemId, duration);
     }
 
     @PostMapping
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item.comment.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.exceptions.NotAvailableException;
 import ru.practicum.shareit.item.comment.Comment;
@@ -9,25 +11,38 @@ import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.CommentMapper;
 import ru.practicum.shareit.item.comment.dto.NewCommentDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemDocument;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.validateService.ValidateService;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
+    private static final String COMMENTS_ROLE = Item.class.getName() + ".comments";
+
     private final ValidateService validateService;
     private final CommentRepository commentRepository;
     private final CommentMapper mapper;
+    private final ItemSearchEngine searchEngine;
+    private final ItemSearchCache searchCache;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public CommentDto create(Long userId, Long itemId, NewCommentDto commentDto) {
-        User user = validateService.checkUser(userId);
-        Item item = validateService.checkItem(itemId);
+        User user = validateService.getUser(userId);
+        Item item = validateService.getItem(itemId);
         if (!validateService.hasPastBooking(userId, itemId)) {
             throw new NotAvailableException("Отзывы доступны только пользователям с завершенным бронированием");
         }
         Comment newComment = mapper.toEntity(commentDto, user, item);
         Comment comment = commentRepository.saveAndFlush(newComment);
+        entityManagerFactory.getCache().unwrap(Cache.class).evictCollectionData(COMMENTS_ROLE, itemId);
+        searchEngine.onItemChanged(itemId);
+        searchCache.evict(new ItemDocument(item, List.of()));
         return mapper.toDto(comment);
     }
 }
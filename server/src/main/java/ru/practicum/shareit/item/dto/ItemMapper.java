@@ -2,11 +2,14 @@ package ru.practicum.shareit.item.dto;
 
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.NullValuePropertyMappingStrategy;
+import ru.practicum.shareit.booking.dto.BookingDates;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.validateService.ItemSnapshot;
 
 import java.time.Instant;
 import java.util.List;
@@ -18,8 +21,25 @@ public interface ItemMapper {
 
     ItemDto toDto(Item item);
 
+    @Mapping(source = "item.request.id", target = "requestId")
+    @Mapping(source = "comments", target = "comments")
+    ItemDto toDto(Item item, List<String> comments);
+
     ItemBookingDatesDto toBookingDatesDto(Item item, Instant lastBooking, Instant nextBooking);
 
+    @Mapping(source = "item.id", target = "id")
+    @Mapping(source = "item.request.id", target = "requestId")
+    @Mapping(source = "dates.last", target = "lastBooking")
+    @Mapping(source = "dates.next", target = "nextBooking")
+    @Mapping(source = "comments", target = "comments")
+    ItemBookingDatesDto toBookingDatesDto(Item item, BookingDates dates, List<String> comments);
+
+    @Mapping(source = "item.id", target = "id")
+    @Mapping(source = "dates.last", target = "lastBooking")
+    @Mapping(source = "dates.next", target = "nextBooking")
+    @Mapping(source = "comments", target = "comments")
+    ItemBookingDatesDto toBookingDatesDto(ItemSnapshot item, BookingDates dates, List<String> comments);
+
     List<ItemDto> toDto(List<Item> items);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
@@ -1,17 +1,42 @@
 package ru.practicum.shareit.item.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.item.dto.ItemComment;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     List<Item> findByOwnerId(Long ownerId);
 
-    List<Item> findByNameContainingIgnoreCaseAndAvailableTrue(String text);
+    List<Item> findByOwnerIdAndIdGreaterThanOrderById(Long ownerId, Long id, Limit limit);
 
+    List<Item> findByNameContainingIgnoreCaseAndAvailableTrueAndIdGreaterThanOrderById(String text, Long id,
+                                                                                        Limit limit);
+
+    @Query(value = "SELECT i.* FROM items i, "
+                   + "websearch_to_tsquery('russian', :text) AS tsq "
+                   + "WHERE i.available AND i.search_vector @@ tsq "
+                   + "ORDER BY ts_rank(i.search_vector, tsq) DESC, i.id "
+                   + "OFFSET :offset LIMIT :limit", nativeQuery = true)
+    List<Item> searchFullText(String text, long offset, int limit);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Item> findAllByRequestId(Long requestId);
 
     List<Item> findAllByRequestIdIn(List<Long> requestId);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemComment(i.id, c) from Item i join i.comments c "
+           + "where i.id in :itemIds")
+    List<ItemComment> findCommentsByItemIdIn(Collection<Long> itemIds);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemComment(i.id, c) from Item i join i.comments c")
+    List<ItemComment> findAllComments();
 }
\ No newline at end of file
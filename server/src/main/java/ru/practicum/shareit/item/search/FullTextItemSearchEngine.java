@@ -0,0 +1,70 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.util.CursorPage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.mode", havingValue = "fulltext")
+public class FullTextItemSearchEngine implements ItemSearchEngine {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern CYRILLIC_WORD = Pattern.compile("[а-я]+");
+    private static final String CYRILLIC_VOWELS = "аеиоуыэюя";
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public CursorPage<Item> search(String text, long position, int size) {
+        List<Item> items = itemRepository.searchFullText(text, position, size + 1);
+        if (items.size() <= size) {
+            return new CursorPage<>(items, null);
+        }
+        return new CursorPage<>(items.subList(0, size), String.valueOf(position + size));
+    }
+
+    /**
+     * The stemmers behind the {@code russian} configuration only cut or rewrite word endings: a Russian word
+     * keeps everything up to its first vowel, any other word keeps its first character. Two words with the same
+     * stem therefore share that prefix, and an item may match only if one of its words starts with the prefix
+     * of a query word. A negated word can make any item match, so such queries are not narrowed down.
+     */
+    @Override
+    public boolean mayMatch(String query, ItemDocument item) {
+        if (!item.isAvailable()) {
+            return false;
+        }
+        if (query.startsWith("-") || query.contains(" -") || query.contains("\"-")) {
+            return true;
+        }
+        List<String> words = words(item.getSearchableName() + " " + item.getSearchableDescription());
+        return words(query).stream()
+                .map(FullTextItemSearchEngine::stemPrefix)
+                .anyMatch(prefix -> words.stream().anyMatch(word -> word.startsWith(prefix)));
+    }
+
+    private static List<String> words(String text) {
+        return Arrays.stream(SEPARATORS.split(text.replace('ё', 'е')))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static String stemPrefix(String word) {
+        if (!CYRILLIC_WORD.matcher(word).matches()) {
+            return word.substring(0, 1);
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (CYRILLIC_VOWELS.indexOf(word.charAt(i)) >= 0) {
+                return word.substring(0, i + 1);
+            }
+        }
+        return word;
+    }
+}
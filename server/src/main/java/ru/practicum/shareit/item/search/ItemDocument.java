@@ -0,0 +1,60 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.validateService.ItemSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+public class ItemDocument {
+    private final long id;
+    private final Long ownerId;
+    private final String name;
+    private final String description;
+    private final boolean available;
+    private final List<String> comments;
+    private final String searchableName;
+    private final String searchableDescription;
+
+    public ItemDocument(Item item, List<String> comments) {
+        this(item.getId(), item.getOwnerId(), item.getName(), item.getDescription(), item.getAvailable(), comments);
+    }
+
+    public ItemDocument(ItemSnapshot item) {
+        this(item.getId(), item.getOwnerId(), item.getName(), item.getDescription(), item.getAvailable(), List.of());
+    }
+
+    private ItemDocument(long id, Long ownerId, String name, String description, Boolean available,
+                         List<String> comments) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.name = name;
+        this.description = description;
+        this.available = Boolean.TRUE.equals(available);
+        this.comments = List.copyOf(comments);
+        this.searchableName = normalize(name);
+        this.searchableDescription = normalize(description);
+    }
+
+    public boolean matches(String query) {
+        return searchableName.contains(query) || searchableDescription.contains(query);
+    }
+
+    public Item toItem() {
+        Item item = new Item();
+        item.setId(id);
+        item.setOwnerId(ownerId);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        item.setComments(new ArrayList<>(comments));
+        return item;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Search result pages keyed on the normalized query text. A write evicts only the queries the item matched
+ * before or after the change, once the change is committed. Pages loaded while a write was being committed
+ * are not kept, so a reader that saw the old state cannot put it back after the eviction.
+ */
+@Component
+public class ItemSearchCache {
+    private static final String CACHE_NAME = "itemSearch";
+
+    private final ItemSearchEngine searchEngine;
+    private final Cache<Key, CursorPage<ItemDto>> pages;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter evictedPages;
+
+    public ItemSearchCache(ItemSearchEngine searchEngine,
+                           @Value("${shareit.search.cache.max-size:1000}") long maxSize,
+                           @Value("${shareit.search.cache.ttl:60s}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.searchEngine = searchEngine;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+        this.evictedPages = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .description("Pages removed because a matching item changed")
+                .register(meterRegistry);
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public CursorPage<ItemDto> get(String query, long position, int size, Supplier<CursorPage<ItemDto>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        Key key = new Key(query, position, size);
+        CursorPage<ItemDto> page = pages.getIfPresent(key);
+        if (page != null) {
+            return page;
+        }
+        long stamp = invalidations.get();
+        page = loader.get();
+        pages.put(key, page);
+        if (invalidations.get() != stamp) {
+            pages.invalidate(key);
+        }
+        return page;
+    }
+
+    public void evict(ItemDocument... states) {
+        List<ItemDocument> changed = List.of(states);
+        TransactionCallbacks.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            pages.asMap().keySet().removeIf(key -> {
+                boolean affected = changed.stream().anyMatch(item -> searchEngine.mayMatch(key.getQuery(), item));
+                if (affected) {
+                    evictedPages.increment();
+                }
+                return affected;
+            });
+        });
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final String query;
+        private final long position;
+        private final int size;
+    }
+}
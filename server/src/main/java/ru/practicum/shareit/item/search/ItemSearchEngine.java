@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.CursorPage;
+
+public interface ItemSearchEngine {
+    CursorPage<Item> search(String text, long position, int size);
+
+    default void onItemChanged(Long itemId) {
+    }
+
+    /**
+     * Whether the found items already hold their comments, so the caller does not have to load them.
+     */
+    default boolean providesComments() {
+        return false;
+    }
+
+    /**
+     * Whether the item in the given state can be part of the results for the normalized query.
+     * Engines that cannot decide it without the database must answer {@code true}.
+     */
+    default boolean mayMatch(String query, ItemDocument item) {
+        return true;
+    }
+}
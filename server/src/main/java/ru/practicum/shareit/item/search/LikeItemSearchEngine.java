@@ -0,0 +1,34 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.util.CursorPage;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.mode", havingValue = "like", matchIfMissing = true)
+public class LikeItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public CursorPage<Item> search(String text, long position, int size) {
+        List<Item> items = itemRepository.findByNameContainingIgnoreCaseAndAvailableTrueAndIdGreaterThanOrderById(
+                text, position, Limit.of(size + 1));
+        if (items.size() <= size) {
+            return new CursorPage<>(items, null);
+        }
+        List<Item> page = items.subList(0, size);
+        return new CursorPage<>(page, page.getLast().getId().toString());
+    }
+
+    @Override
+    public boolean mayMatch(String query, ItemDocument item) {
+        return item.isAvailable() && item.getSearchableName().contains(query);
+    }
+}
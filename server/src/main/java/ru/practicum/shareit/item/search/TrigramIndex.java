@@ -0,0 +1,214 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from lower-cased trigrams of item name and description to ascending arrays of item ids.
+ * Trigrams only select candidates, every candidate is checked against the query before it is returned.
+ * Queries shorter than a trigram fall back to a scan of all documents in id order.
+ */
+public class TrigramIndex {
+    private static final int GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final NavigableMap<Long, ItemDocument> documents = new TreeMap<>();
+
+    public void put(ItemDocument document) {
+        lock.writeLock().lock();
+        try {
+            ItemDocument previous = documents.put(document.getId(), document);
+            if (previous != null) {
+                unlink(previous);
+            }
+            for (long trigram : trigrams(document)) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(document.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            ItemDocument previous = documents.remove(itemId);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} available documents with id greater than {@code afterId} whose name or
+     * description contains {@code text} ignoring case, in ascending id order.
+     */
+    public List<ItemDocument> search(String text, long afterId, int limit) {
+        String query = ItemDocument.normalize(text);
+        lock.readLock().lock();
+        try {
+            if (query.length() < GRAM) {
+                return scan(query, afterId, limit);
+            }
+            long[] keys = trigrams(query);
+            Postings[] lists = new Postings[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                lists[i] = postings.get(keys[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            Postings shortest = lists[0];
+            List<ItemDocument> result = new ArrayList<>();
+            for (int i = shortest.upperBound(afterId); i < shortest.size && result.size() < limit; i++) {
+                ItemDocument document = documents.get(shortest.ids[i]);
+                if (document.isAvailable() && containedInAll(lists, document.getId()) && document.matches(query)) {
+                    result.add(document);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ItemDocument> scan(String query, long afterId, int limit) {
+        List<ItemDocument> result = new ArrayList<>();
+        for (ItemDocument document : documents.tailMap(afterId, false).values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (document.isAvailable() && document.matches(query)) {
+                result.add(document);
+            }
+        }
+        return result;
+    }
+
+    private void unlink(ItemDocument document) {
+        for (long trigram : trigrams(document)) {
+            Postings list = postings.get(trigram);
+            list.remove(document.getId());
+            if (list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static boolean containedInAll(Postings[] lists, long itemId) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(itemId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] trigrams(ItemDocument document) {
+        String name = document.getSearchableName();
+        String description = document.getSearchableDescription();
+        long[] keys = new long[count(name) + count(description)];
+        int size = collect(name, keys, 0);
+        size = collect(description, keys, size);
+        return distinct(keys, size);
+    }
+
+    private static long[] trigrams(String text) {
+        long[] keys = new long[count(text)];
+        return distinct(keys, collect(text, keys, 0));
+    }
+
+    private static int count(String text) {
+        return Math.max(0, text.length() - GRAM + 1);
+    }
+
+    private static int collect(String text, long[] keys, int from) {
+        int size = from;
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            keys[size++] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return size;
+    }
+
+    private static long[] distinct(long[] keys, int size) {
+        Arrays.sort(keys, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || keys[unique - 1] != keys[i]) {
+                keys[unique++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, unique);
+    }
+
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long itemId) {
+            int position = Arrays.binarySearch(ids, 0, size, itemId);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = itemId;
+            size++;
+        }
+
+        void remove(long itemId) {
+            int position = Arrays.binarySearch(ids, 0, size, itemId);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            if (size > 4 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, ids.length / 2);
+            }
+        }
+
+        boolean contains(long itemId) {
+            return Arrays.binarySearch(ids, 0, size, itemId) >= 0;
+        }
+
+        int upperBound(long itemId) {
+            int position = Arrays.binarySearch(ids, 0, size, itemId);
+            return position >= 0 ? position + 1 : -position - 1;
+        }
+    }
+}
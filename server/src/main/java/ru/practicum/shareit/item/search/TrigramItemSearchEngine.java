@@ -0,0 +1,89 @@
+package ru.practicum.shareit.item.search;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.ItemComment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.mode", havingValue = "trigram")
+public class TrigramItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TrigramIndex index = new TrigramIndex();
+    private final Lock writeLock = new ReentrantLock();
+
+    public TrigramItemSearchEngine(ItemRepository itemRepository, PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            index.clear();
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, List<String>> comments = itemRepository.findAllComments().stream()
+                        .collect(Collectors.groupingBy(ItemComment::getItemId,
+                                Collectors.mapping(ItemComment::getText, Collectors.toList())));
+                for (Item item : itemRepository.findAll()) {
+                    index.put(new ItemDocument(item, comments.getOrDefault(item.getId(), List.of())));
+                }
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public CursorPage<Item> search(String text, long position, int size) {
+        List<ItemDocument> documents = index.search(text, position, size + 1);
+        if (documents.size() <= size) {
+            return new CursorPage<>(documents.stream().map(ItemDocument::toItem).toList(), null);
+        }
+        List<Item> page = documents.subList(0, size).stream().map(ItemDocument::toItem).toList();
+        return new CursorPage<>(page, page.getLast().getId().toString());
+    }
+
+    @Override
+    public void onItemChanged(Long itemId) {
+        TransactionCallbacks.afterCommit(() -> reindex(itemId));
+    }
+
+    @Override
+    public boolean providesComments() {
+        return true;
+    }
+
+    @Override
+    public boolean mayMatch(String query, ItemDocument item) {
+        return item.isAvailable() && item.matches(query);
+    }
+
+    private void reindex(Long itemId) {
+        writeLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> itemRepository.findById(itemId).ifPresentOrElse(
+                    item -> index.put(new ItemDocument(item, item.getComments())),
+                    () -> index.remove(itemId)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.ItemBookingDatesDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.util.CursorPage;
 
 import java.util.List;
 
@@ -11,7 +12,9 @@ public interface ItemService {
 
     ItemBookingDatesDto get(Long userId, Long itemId);
 
-    List<ItemDto> search(Long userId, String text);
+    CursorPage<ItemBookingDatesDto> getInventory(Long userId, String cursor, int size);
+
+    CursorPage<ItemDto> search(Long userId, String text, String cursor, int size);
 
     ItemDto save(Long userId, ItemDto item);
 
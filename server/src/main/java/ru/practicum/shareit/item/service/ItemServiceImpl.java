@@ -1,22 +1,36 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
+import ru.practicum.shareit.booking.dto.BookingDates;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exceptions.NoAccessException;
+import ru.practicum.shareit.exceptions.NotAvailableException;
 import ru.practicum.shareit.item.dto.ItemBookingDatesDto;
+import ru.practicum.shareit.item.dto.ItemComment;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemDocument;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.validateService.ItemSnapshot;
 import ru.practicum.shareit.validateService.ValidateService;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 @Service
 @RequiredArgsConstructor
@@ -25,36 +39,56 @@ public class ItemServiceImpl implements ItemService {
     private final ValidateService validateService;
     private final BookingRepository bookingRepository;
     private final ItemMapper mapper;
+    private final ItemCalendarService calendarService;
+    private final ItemSearchEngine searchEngine;
+    private final ItemSearchCache searchCache;
 
     @Override
     public List<ItemDto> getAll(Long userId) {
         validateService.checkUser(userId);
-        return mapper.toDto(itemRepository.findByOwnerId(userId));
+        return toDto(itemRepository.findByOwnerId(userId));
     }
 
     @Override
     public ItemBookingDatesDto get(Long userId, Long itemId) {
         validateService.checkUser(userId);
-        Item item = validateService.checkItem(itemId);
-        Instant lastBooking = null;
-        Instant nextBooking = null;
-        if (item.getOwnerId().equals(userId)) {
-            List<Booking> bookings = bookingRepository.findByItemIdOrderByStart(itemId);
-            if (bookings != null && !bookings.isEmpty()) {
-                lastBooking = findLastApprovedBooking(bookings);
-                nextBooking = findNextApprovedBooking(bookings);
-            }
+        ItemSnapshot item = validateService.checkItem(itemId);
+        BookingDates dates = item.getOwnerId().equals(userId)
+                ? bookingRepository.findBookingDates(itemId, BookingStatus.APPROVED, Instant.now())
+                : null;
+        List<String> comments = findComments(Set.of(itemId)).getOrDefault(itemId, List.of());
+        return mapper.toBookingDatesDto(item, dates, comments);
+    }
+
+    @Override
+    public CursorPage<ItemBookingDatesDto> getInventory(Long userId, String cursor, int size) {
+        validateService.checkUser(userId);
+        CursorPage.checkSize(size);
+        List<Item> items = itemRepository.findByOwnerIdAndIdGreaterThanOrderById(userId, decodeCursor(cursor),
+                Limit.of(size + 1));
+        if (items.size() <= size) {
+            return new CursorPage<>(toInventory(items), null);
         }
-        return mapper.toBookingDatesDto(item, lastBooking, nextBooking);
+        List<Item> page = items.subList(0, size);
+        return new CursorPage<>(toInventory(page), page.getLast().getId().toString());
     }
 
     @Override
-    public List<ItemDto> search(Long userId, String text) {
+    public CursorPage<ItemDto> search(Long userId, String text, String cursor, int size) {
         validateService.checkUser(userId);
-        if (text == null || text.isBlank()) {
-            return List.of();
+        CursorPage.checkSize(size);
+        String query = ItemSearchCache.normalize(text);
+        if (query.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
         }
-        return mapper.toDto(itemRepository.findByNameContainingIgnoreCaseAndAvailableTrue(text));
+        long position = decodeCursor(cursor);
+        return searchCache.get(query, position, size, () -> {
+            CursorPage<Item> page = searchEngine.search(query, position, size);
+            List<ItemDto> items = searchEngine.providesComments()
+                    ? page.getContent().stream().map(item -> mapper.toDto(item, item.getComments())).toList()
+                    : toDto(page.getContent());
+            return new CursorPage<>(items, page.getNextCursor());
+        });
     }
 
     @Transactional
@@ -71,44 +105,89 @@ public class ItemServiceImpl implements ItemService {
         }
         newItem.setOwnerId(userId);
         newItem.setId(null);
-        return mapper.toDto(itemRepository.save(newItem));
+        Item savedItem = itemRepository.save(newItem);
+        searchEngine.onItemChanged(savedItem.getId());
+        searchCache.evict(new ItemDocument(savedItem, List.of()));
+        return mapper.toDto(savedItem);
     }
 
     @Transactional
     @Override
     public ItemDto update(Long userId, Long itemId, ItemDto item) {
         validateService.checkUser(userId);
-        Item oldItem = validateService.checkItem(itemId);
-        if (oldItem.getOwnerId().longValue() != userId.longValue()) {
+        ItemSnapshot previous = validateService.checkItem(itemId);
+        if (!previous.getOwnerId().equals(userId)) {
             throw new NoAccessException("Обновление данных доступно только владельцу вещи");
         }
+        Item oldItem = validateService.getItem(itemId);
+        ItemDocument previousState = new ItemDocument(previous);
         mapper.update(item, oldItem);
-        return mapper.toDto(itemRepository.save(oldItem));
+        Item savedItem = itemRepository.save(oldItem);
+        validateService.evictItem(itemId);
+        searchEngine.onItemChanged(itemId);
+        searchCache.evict(previousState, new ItemDocument(savedItem, List.of()));
+        return mapper.toDto(savedItem);
     }
 
     @Override
     public void delete(Long userId, Long itemId) {
         validateService.checkUser(userId);
-        Item item = validateService.checkItem(itemId);
-        if (item.getOwnerId().longValue() != userId.longValue()) {
+        ItemSnapshot item = validateService.checkItem(itemId);
+        if (!item.getOwnerId().equals(userId)) {
             throw new NoAccessException("Удаление вещи доступно только владельцу");
         }
         itemRepository.deleteById(itemId);
+        calendarService.evict(itemId);
+        validateService.evictItem(itemId);
+        searchEngine.onItemChanged(itemId);
+        searchCache.evict(new ItemDocument(item));
+    }
+
+    private List<ItemDto> toDto(List<Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> comments = findComments(idsOf(items));
+        return items.stream()
+                .map(item -> mapper.toDto(item, comments.getOrDefault(item.getId(), List.of())))
+                .toList();
+    }
+
+    private List<ItemBookingDatesDto> toInventory(List<Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> itemIds = idsOf(items);
+        Map<Long, BookingDates> dates = bookingRepository
+                .findBookingDatesByItemIdIn(itemIds, BookingStatus.APPROVED, Instant.now()).stream()
+                .collect(Collectors.toMap(BookingDates::getItemId, Function.identity()));
+        Map<Long, List<String>> comments = findComments(itemIds);
+        return items.stream()
+                .map(item -> mapper.toBookingDatesDto(item, dates.get(item.getId()),
+                        comments.getOrDefault(item.getId(), List.of())))
+                .toList();
     }
 
-    private Instant findLastApprovedBooking(List<Booking> bookings) {
-        return bookings.stream()
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED) &&
-                                   booking.getStart().isBefore(Instant.now()))
-                .map(Booking::getStart)
-                .max(Instant::compareTo).orElse(null);
+    private Map<Long, List<String>> findComments(Set<Long> itemIds) {
+        return itemRepository.findCommentsByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(ItemComment::getItemId,
+                        Collectors.mapping(ItemComment::getText, Collectors.toList())));
     }
 
-    private Instant findNextApprovedBooking(List<Booking> bookings) {
-        return bookings.stream()
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED) &&
-                                   booking.getStart().isAfter(Instant.now()))
-                .map(Booking::getStart)
-                .min(Instant::compareTo).orElse(null);
+    private static Set<Long> idsOf(List<Item> items) {
+        return items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new NotAvailableException("Некорректный курсор: " + cursor);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Getter;
+
+/**
+ * JDBC statements executed by the current thread while it handles one request.
+ */
+@Getter
+public final class DbUsage {
+    private static final ThreadLocal<DbUsage> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private DbUsage() {
+    }
+
+    static void start() {
+        CURRENT.set(new DbUsage());
+    }
+
+    static DbUsage stop() {
+        DbUsage usage = CURRENT.get();
+        CURRENT.remove();
+        return usage == null ? new DbUsage() : usage;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(long nanos) {
+        DbUsage usage = CURRENT.get();
+        if (usage != null) {
+            usage.statements++;
+            usage.nanos += nanos;
+        }
+    }
+}
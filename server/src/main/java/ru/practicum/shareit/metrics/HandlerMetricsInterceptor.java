@@ -0,0 +1,93 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import ru.practicum.shareit.booking.BookingSelectionState;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency, JDBC statement count and DB time of every controller method call as HdrHistogram-backed
+ * distributions with p50, p99 and p999. Handlers that take a {@link BookingSelectionState} are also tagged
+ * with the requested state, so each selection branch has its own percentiles.
+ */
+public class HandlerMetricsInterceptor implements HandlerInterceptor {
+    private static final String START = HandlerMetricsInterceptor.class.getName() + ".start";
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+    private static final String NO_STATE = "none";
+    private static final String INVALID_STATE = "INVALID";
+
+    private final MeterRegistry meterRegistry;
+
+    public HandlerMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START, System.nanoTime());
+            DbUsage.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod method) || !(request.getAttribute(START) instanceof Long start)) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        DbUsage usage = DbUsage.stop();
+        Tags tags = Tags.of("controller", method.getBeanType().getSimpleName(),
+                "method", method.getMethod().getName(),
+                "state", state(request, method),
+                "status", String.valueOf(response.getStatus()));
+        Timer.builder("server.handler.duration")
+                .tags(tags)
+                .description("Time to handle a request in the controller method")
+                .publishPercentiles(PERCENTILES)
+                .percentilePrecision(2)
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+        Timer.builder("server.handler.db.time")
+                .tags(tags)
+                .description("Time spent executing JDBC statements while handling a request")
+                .publishPercentiles(PERCENTILES)
+                .percentilePrecision(2)
+                .register(meterRegistry)
+                .record(usage.getNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("server.handler.db.statements")
+                .tags(tags)
+                .description("JDBC statements executed while handling a request")
+                .publishPercentiles(PERCENTILES)
+                .percentilePrecision(2)
+                .register(meterRegistry)
+                .record(usage.getStatements());
+    }
+
+    private static String state(HttpServletRequest request, HandlerMethod method) {
+        boolean selectsState = Arrays.stream(method.getMethodParameters())
+                .anyMatch(parameter -> parameter.getParameterType() == BookingSelectionState.class);
+        if (!selectsState) {
+            return NO_STATE;
+        }
+        String state = request.getParameter("state");
+        if (state == null) {
+            return BookingSelectionState.ALL.name();
+        }
+        try {
+            return BookingSelectionState.valueOf(state.trim()).name();
+        } catch (IllegalArgumentException e) {
+            return INVALID_STATE;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source in a {@link StatementTimingDataSource} before any other post-processor, so wrappers
+ * added later, like the admission limit, stay outside the measured time.
+ */
+public class StatementTimingPostProcessor implements BeanPostProcessor, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof StatementTimingDataSource) {
+            return bean;
+        }
+        return new StatementTimingDataSource(dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
@@ -8,4 +10,8 @@ import java.util.List;
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
     List<ItemRequest> findAllByRequestorIdOrderByCreatedDesc(Long userId);
+
+    @Override
+    @EntityGraph(attributePaths = "requestor")
+    List<ItemRequest> findAll(Sort sort);
 }
\ No newline at end of file
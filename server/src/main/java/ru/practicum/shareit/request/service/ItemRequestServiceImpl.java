@@ -28,7 +28,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public ItemRequestDto createItemRequest(Long userId, NewItemRequestDto newDto) {
-        User user = validateService.checkUser(userId);
+        User user = validateService.getUser(userId);
         ItemRequest itemRequest = mapper.toEntity(newDto);
         itemRequest.setRequestor(user);
         return mapper.toDto(requestRepository.save(itemRequest));
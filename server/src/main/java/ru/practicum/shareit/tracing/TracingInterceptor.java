@@ -0,0 +1,37 @@
+package ru.practicum.shareit.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Runs every method of {@code component} in its own span named {@code Component.method}. Calls made outside
+ * a traced request are not recorded.
+ */
+class TracingInterceptor implements MethodInterceptor {
+    private final Tracer tracer;
+    private final String component;
+
+    TracingInterceptor(Tracer tracer, String component) {
+        this.tracer = tracer;
+        this.component = component;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Span parent = tracer.current();
+        if (parent == null) {
+            return invocation.proceed();
+        }
+        Span span = tracer.start(component + "." + invocation.getMethod().getName(), parent);
+        tracer.activate(span);
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.tag("error", e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            tracer.activate(parent);
+            tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.tracing;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import ru.practicum.shareit.validateService.ValidateService;
+
+/**
+ * Adds a {@link TracingInterceptor} to every Spring Data repository, and to {@link ValidateService}, so the
+ * lookups it answers from its caches can be told apart from the ones that reach the database.
+ */
+public class TracingPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<Tracer> tracer;
+
+    public TracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+            repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repository) -> proxyFactory.addAdvice(new TracingInterceptor(tracer.getObject(),
+                            repository.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof ValidateService)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TracingInterceptor(tracer.getObject(), ValidateService.class.getSimpleName()));
+        return proxyFactory.getProxy();
+    }
+}
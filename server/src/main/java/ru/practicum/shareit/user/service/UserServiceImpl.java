@@ -2,14 +2,25 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exceptions.NotUniqueEmailException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemDocument;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.TransactionCallbacks;
 import ru.practicum.shareit.validateService.ValidateService;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +28,11 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final ValidateService validateService;
     private final UserMapper mapper;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemCalendarService calendarService;
+    private final ItemSearchEngine searchEngine;
+    private final ItemSearchCache searchCache;
 
     @Override
     public List<UserDto> getAll() {
@@ -25,7 +41,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto get(Long userId) {
-        return mapper.toDto(validateService.checkUser(userId));
+        return mapper.toDto(validateService.getUser(userId));
     }
 
     @Override
@@ -35,18 +51,37 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto update(Long userId, UserDto user) {
-        User oldUser = validateService.checkUser(userId);
+        User oldUser = validateService.getUser(userId);
         if (!oldUser.getEmail().equals(user.getEmail())) {
             if (userRepository.findByEmail(user.getEmail()).isPresent()) {
                 throw new NotUniqueEmailException("Указанный email уже зарегистрирован");
             }
         }
         mapper.update(user, oldUser);
-        return mapper.toDto(userRepository.save(oldUser));
+        User savedUser = userRepository.save(oldUser);
+        validateService.evictUser(userId);
+        return mapper.toDto(savedUser);
     }
 
+    /**
+     * The database removes the items and bookings of the user along with it, so their cached states are
+     * dropped too.
+     */
+    @Transactional
     @Override
     public void delete(Long userId) {
+        List<Item> items = itemRepository.findByOwnerId(userId);
+        Set<Long> calendarItemIds = new HashSet<>(bookingRepository.findItemIdsByBookerId(userId));
         userRepository.deleteById(userId);
+        validateService.evictUser(userId);
+        for (Item item : items) {
+            calendarItemIds.add(item.getId());
+            validateService.evictItem(item.getId());
+            searchEngine.onItemChanged(item.getId());
+        }
+        TransactionCallbacks.afterCommit(() -> calendarItemIds.forEach(calendarService::evict));
+        searchCache.evict(items.stream()
+                .map(item -> new ItemDocument(item, List.of()))
+                .toArray(ItemDocument[]::new));
     }
 }
\ No newline at end of file
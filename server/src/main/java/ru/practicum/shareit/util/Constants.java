@@ -4,5 +4,11 @@ public final class Constants {
 
     public static final String USER_ID = "X-Sharer-User-Id";
 
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    public static final String DEFAULT_PAGE_SIZE = "10";
+
+    public static final int MAX_PAGE_SIZE = 100;
+
     public static final String DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exceptions.NotAvailableException;
+
+import java.util.List;
+
+import static ru.practicum.shareit.util.Constants.MAX_PAGE_SIZE;
+import static ru.practicum.shareit.util.Constants.NEXT_CURSOR;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    public static void checkSize(int size) {
+        if (size <= 0) {
+            throw new NotAvailableException("Размер страницы должен быть положительным числом");
+        }
+        if (size > MAX_PAGE_SIZE) {
+            throw new NotAvailableException("Размер страницы не должен превышать " + MAX_PAGE_SIZE);
+        }
+    }
+
+    public ResponseEntity<List<T>> toResponse() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR, nextCursor);
+        }
+        return response.body(content);
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Puts the connection pool behind a {@link DbAdmissionDataSource} with one permit per pooled connection when
+ * requests run on virtual threads. The pool may already be wrapped by earlier post-processors.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DbAdmissionPostProcessor implements BeanPostProcessor {
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DbAdmissionPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        HikariDataSource pool = unwrapPool(dataSource);
+        if (pool == null) {
+            return bean;
+        }
+        int poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+        return new DbAdmissionDataSource(dataSource, beanName, poolSize,
+                Duration.ofMillis(pool.getConnectionTimeout()), meterRegistry.getObject());
+    }
+
+    private static HikariDataSource unwrapPool(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -3,27 +3,66 @@ package ru.practicum.shareit.util;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
 
+/**
+ * Converts between instants and {@link Constants#DATE_PATTERN} in the system zone, which is resolved once.
+ * Formatting of years 1 to 9999 is done by hand from a table of two-digit strings, so the returned string is
+ * the only allocation. Other years and all parsing go through a shared {@link DateTimeFormatter}.
+ */
 public final class InstantMapper {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final ZoneRules RULES = ZONE.getRules();
+    private static final boolean FIXED_OFFSET = RULES.isFixedOffset();
+    private static final int OFFSET_SECONDS = RULES.getOffset(Instant.EPOCH).getTotalSeconds();
+    private static final DateTimeFormatter PARSER = DateTimeFormatter.ofPattern(Constants.DATE_PATTERN);
+    private static final DateTimeFormatter FORMATTER = PARSER.withZone(ZONE);
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+    private static final int MAX_YEAR = 9999;
+    private static final String[] TWO_DIGITS = new String[100];
+
+    static {
+        for (int i = 0; i < TWO_DIGITS.length; i++) {
+            TWO_DIGITS[i] = String.format("%02d", i);
+        }
+    }
+
     public static Instant mapStringToInstant(String date) {
         if (date == null) {
             return null;
         }
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Constants.DATE_PATTERN);
-        LocalDateTime localDateTime = LocalDateTime.parse(date, dateTimeFormatter);
-        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.systemDefault());
-        return zonedDateTime.toInstant();
+        return LocalDateTime.parse(date, PARSER).atZone(ZONE).toInstant();
     }
 
     public static String mapInstantToString(Instant instant) {
         if (instant == null) {
             return null;
         }
-        return DateTimeFormatter
-                .ofPattern(Constants.DATE_PATTERN)
-                .withZone(ZoneId.systemDefault())
-                .format(instant);
+        int offset = FIXED_OFFSET ? OFFSET_SECONDS : RULES.getOffset(instant).getTotalSeconds();
+        long local = instant.getEpochSecond() + offset;
+        long epochDay = Math.floorDiv(local, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(local, SECONDS_PER_DAY);
+
+        long days = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(days, DAYS_PER_ERA);
+        int dayOfEra = (int) (days - era * DAYS_PER_ERA);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = era * 400 + yearOfEra + (month <= 2 ? 1 : 0);
+        if (year < 1 || year > MAX_YEAR) {
+            return FORMATTER.format(instant);
+        }
+
+        int y = (int) year;
+        return TWO_DIGITS[y / 100] + TWO_DIGITS[y % 100] + '-' + TWO_DIGITS[month] + '-' + TWO_DIGITS[day]
+                + 'T' + TWO_DIGITS[secondOfDay / 3600] + ':' + TWO_DIGITS[secondOfDay / 60 % 60]
+                + ':' + TWO_DIGITS[secondOfDay % 60];
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.validateService;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.model.Item;
+
+@Getter
+@AllArgsConstructor
+public class ItemSnapshot {
+    private final Long id;
+    private final Long ownerId;
+    private final String name;
+    private final String description;
+    private final Boolean available;
+    private final Long requestId;
+
+    public static ItemSnapshot of(Item item) {
+        return new ItemSnapshot(item.getId(), item.getOwnerId(), item.getName(), item.getDescription(),
+                item.getAvailable(), item.getRequest() == null ? null : item.getRequest().getId());
+    }
+}
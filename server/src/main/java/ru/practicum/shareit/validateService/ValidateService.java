@@ -1,7 +1,13 @@
 package ru.practicum.shareit.validateService;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
@@ -12,27 +18,69 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.TransactionCallbacks;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.function.Function;
 
+/**
+ * Existence checks are answered from near-caches of immutable snapshots. Inside a transaction the caches are
+ * bypassed, so uncommitted changes are neither read from nor written to them. Methods returning entities
+ * always go to the database.
+ */
 @Service
-@RequiredArgsConstructor
 public class ValidateService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final BookingRepository bookingRepository;
     private final ItemRequestRepository requestRepository;
+    private final Cache<Long, UserSnapshot> users;
+    private final Cache<Long, ItemSnapshot> items;
 
-    public User checkUser(Long id) {
+    public ValidateService(UserRepository userRepository,
+                           ItemRepository itemRepository,
+                           BookingRepository bookingRepository,
+                           ItemRequestRepository requestRepository,
+                           @Value("${shareit.validate.cache.max-size:10000}") long maxSize,
+                           @Value("${shareit.validate.cache.ttl:30s}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.itemRepository = itemRepository;
+        this.bookingRepository = bookingRepository;
+        this.requestRepository = requestRepository;
+        this.users = buildCache("users", maxSize, ttl, meterRegistry);
+        this.items = buildCache("items", maxSize, ttl, meterRegistry);
+    }
+
+    public UserSnapshot checkUser(Long id) {
+        return lookup(users, id, key -> userRepository.findById(key).map(UserSnapshot::of).orElse(null),
+                "Пользователь не найден, id: ");
+    }
+
+    public ItemSnapshot checkItem(Long id) {
+        return lookup(items, id, key -> itemRepository.findById(key).map(ItemSnapshot::of).orElse(null),
+                "Вещь не найдена, id: ");
+    }
+
+    public User getUser(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Пользователь не найден, id: " + id));
     }
 
-    public Item checkItem(Long id) {
+    public Item getItem(Long id) {
         return itemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Вещь не найдена, id: " + id));
     }
 
+    public void evictUser(Long id) {
+        TransactionCallbacks.afterCommit(() -> users.invalidate(id));
+    }
+
+    public void evictItem(Long id) {
+        TransactionCallbacks.afterCommit(() -> items.invalidate(id));
+    }
+
     public Booking checkBooking(Long id) {
         return bookingRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Броннирование не найдено, id: " + id));
@@ -47,4 +95,29 @@ public class ValidateService {
         return requestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("Запрос вещи не найден, id: " + requestId));
     }
-}
\ No newline at end of file
+
+    private static <T> T lookup(Cache<Long, T> cache, Long id, Function<Long, T> loader, String notFound) {
+        T snapshot = TransactionSynchronizationManager.isActualTransactionActive()
+                ? loader.apply(id)
+                : cache.get(id, loader);
+        if (snapshot == null) {
+            throw new NotFoundException(notFound + id);
+        }
+        return snapshot;
+    }
+
+    private static <T> Cache<Long, T> buildCache(String name, long maxSize, Duration ttl,
+                                                 MeterRegistry meterRegistry) {
+        Cache<Long, T> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .description("Share of lookups answered from the cache")
+                .register(meterRegistry);
+        return cache;
+    }
+}
@@ -1,3 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
 DROP TABLE IF EXISTS users CASCADE;
 DROP TABLE IF EXISTS item_requests CASCADE;
 DROP TABLE IF EXISTS items CASCADE;
@@ -5,6 +7,12 @@ DROP TABLE IF EXISTS bookings CASCADE;
 DROP TABLE IF EXISTS comments CASCADE;
 DROP INDEX IF EXISTS index_item CASCADE;
 DROP INDEX IF EXISTS index_booking CASCADE;
+DROP INDEX IF EXISTS index_item_owner CASCADE;
+DROP INDEX IF EXISTS index_booking_booker_start CASCADE;
+DROP INDEX IF EXISTS index_booking_owner_start CASCADE;
+DROP INDEX IF EXISTS index_booking_item_start CASCADE;
+DROP INDEX IF EXISTS index_booking_item_status_start CASCADE;
+DROP INDEX IF EXISTS index_item_search CASCADE;
 
 CREATE TABLE IF NOT EXISTS users (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
@@ -30,6 +38,9 @@ CREATE TABLE IF NOT EXISTS items (
   description VARCHAR(512),
   available BOOLEAN DEFAULT true,
   request_id BIGINT DEFAULT null,
+  search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('russian', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('russian', coalesce(description, '')), 'B')) STORED,
   CONSTRAINT pk_item PRIMARY KEY (id),
   CONSTRAINT fk_items_to_users FOREIGN KEY(owner_id) REFERENCES users(id),
   CONSTRAINT fk_item_to_request FOREIGN KEY(request_id) REFERENCES item_requests(id)
@@ -39,12 +50,18 @@ CREATE TABLE IF NOT EXISTS bookings (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   booker_id BIGINT NOT NULL,
   item_id BIGINT NOT NULL,
+  owner_id BIGINT NOT NULL,
   start_date TIMESTAMP NOT NULL,
   end_date TIMESTAMP NOT NULL,
   status VARCHAR(64) default 'WAITING' NOT NULL,
+  period TSTZRANGE GENERATED ALWAYS AS
+      (tstzrange(start_date AT TIME ZONE 'UTC', end_date AT TIME ZONE 'UTC', '[)')) STORED,
   CONSTRAINT pk_booking PRIMARY KEY (id),
   CONSTRAINT fk_booking_to_users FOREIGN KEY(booker_id) REFERENCES users(id),
-  CONSTRAINT fk_booking_to_items FOREIGN KEY(item_id) REFERENCES items(id)
+  CONSTRAINT fk_booking_to_items FOREIGN KEY(item_id) REFERENCES items(id),
+  CONSTRAINT fk_booking_to_owners FOREIGN KEY(owner_id) REFERENCES users(id),
+  CONSTRAINT booking_approved_no_overlap EXCLUDE USING gist (item_id WITH =, period WITH &&)
+      WHERE (status = 'APPROVED')
 );
 
 CREATE TABLE IF NOT EXISTS comments
@@ -60,4 +77,10 @@ CREATE TABLE IF NOT EXISTS comments
 );
 
 CREATE INDEX IF NOT EXISTS index_item ON items (lower(name), lower(description));
-CREATE INDEX IF NOT EXISTS index_booking ON bookings (booker_id, item_id);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS index_booking ON bookings (booker_id, item_id);
+CREATE INDEX IF NOT EXISTS index_item_owner ON items (owner_id);
+CREATE INDEX IF NOT EXISTS index_item_search ON items USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS index_booking_booker_start ON bookings (booker_id, start_date, id);
+CREATE INDEX IF NOT EXISTS index_booking_owner_start ON bookings (owner_id, start_date, id);
+CREATE INDEX IF NOT EXISTS index_booking_item_start ON bookings (item_id, start_date, id);
+CREATE INDEX IF NOT EXISTS index_booking_item_status_start ON bookings (item_id, status, start_date);
\ No newline at end of file
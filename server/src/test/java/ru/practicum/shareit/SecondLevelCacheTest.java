@@ -0,0 +1,66 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.validateService.ValidateService;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest
+@ActiveProfiles({"test", "l2cache"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SecondLevelCacheTest {
+    private final ValidateService validateService;
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void testInitialization() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getUser_inSeparateSessions_thenLoadOnce() {
+        validateService.getUser(11L);
+        validateService.getUser(11L);
+
+        assertThat(statistics.getPrepareStatementCount(), equalTo(1L));
+        assertThat(statistics.getSecondLevelCacheHitCount(), equalTo(1L));
+    }
+
+    @Test
+    void getComments_inSeparateSessions_thenReadCollectionFromCache() {
+        List<String> first = transactionTemplate.execute(status -> List.copyOf(validateService.getItem(31L).getComments()));
+        List<String> second = transactionTemplate.execute(status -> List.copyOf(validateService.getItem(31L).getComments()));
+
+        assertThat(second, equalTo(first));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(2L));
+    }
+
+    @Test
+    void findAllByRequestId_withRepeatedCalls_thenUseQueryCache() {
+        List<Item> first = itemRepository.findAllByRequestId(21L);
+        List<Item> second = itemRepository.findAllByRequestId(21L);
+
+        assertThat(second.size(), equalTo(first.size()));
+        assertThat(statistics.getQueryCacheHitCount(), equalTo(1L));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(1L));
+    }
+}
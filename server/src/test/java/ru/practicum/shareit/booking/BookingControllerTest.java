@@ -16,9 +16,11 @@ import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exceptions.BookingOverlapException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.util.CursorPage;
 
 import java.util.List;
 
@@ -29,11 +31,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.TestConstant.NOT_EXISTING_ID;
 import static ru.practicum.shareit.TestConstant.TIME_AFTER;
 import static ru.practicum.shareit.TestConstant.TIME_BEFORE;
+import static ru.practicum.shareit.util.Constants.NEXT_CURSOR;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -117,6 +121,21 @@ class BookingControllerTest {
 
             verify(bookingService, times(1)).changeStatus(ONE_USER_ID, bookingDto.getId(), true);
         }
+
+        @SneakyThrows
+        @Test
+        void changeStatus_withOverlappingApprovedBooking_thenReturnConflict() {
+            when(bookingService.changeStatus(ONE_USER_ID, bookingDto.getId(), true))
+                    .thenThrow(BookingOverlapException.class);
+
+            mvc.perform(patch("/bookings/{bookingId}", bookingDto.getId())
+                            .header(USER_ID, ONE_USER_ID)
+                            .param("approved", String.valueOf(true))
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isConflict());
+
+            verify(bookingService, times(1)).changeStatus(ONE_USER_ID, bookingDto.getId(), true);
+        }
     }
 
     @Nested
@@ -125,7 +144,8 @@ class BookingControllerTest {
         @SneakyThrows
         @Test
         void getAllBookings_withValidId_thenReturnOK() {
-            when(bookingService.getByBooker(ONE_USER_ID, BookingSelectionState.ALL)).thenReturn(List.of(bookingDto));
+            when(bookingService.getByBooker(ONE_USER_ID, BookingSelectionState.ALL, null, 10))
+                    .thenReturn(new CursorPage<>(List.of(bookingDto), null));
 
             mvc.perform(get("/bookings")
                             .header(USER_ID, ONE_USER_ID)
@@ -135,23 +155,27 @@ class BookingControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().json(mapper.writeValueAsString(List.of(bookingDto))));
 
-            verify(bookingService, times(1)).getByBooker(ONE_USER_ID, BookingSelectionState.ALL);
+            verify(bookingService, times(1)).getByBooker(ONE_USER_ID, BookingSelectionState.ALL, null, 10);
         }
 
         @SneakyThrows
         @Test
         void getAllBookingsByOwner_withValidId_thenReturnOK() {
-            when(bookingService.getByOwner(ONE_USER_ID, BookingSelectionState.ALL)).thenReturn(List.of(bookingDto));
+            when(bookingService.getByOwner(ONE_USER_ID, BookingSelectionState.ALL, "cursor", 1))
+                    .thenReturn(new CursorPage<>(List.of(bookingDto), "next"));
 
             mvc.perform(get("/bookings/owner")
                             .header(USER_ID, ONE_USER_ID)
                             .contentType(MediaType.APPLICATION_JSON)
                             .param("state", String.valueOf(BookingSelectionState.ALL))
+                            .param("cursor", "cursor")
+                            .param("size", "1")
                             .accept(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(NEXT_CURSOR, "next"))
                     .andExpect(content().json(mapper.writeValueAsString(List.of(bookingDto))));
 
-            verify(bookingService, times(1)).getByOwner(ONE_USER_ID, BookingSelectionState.ALL);
+            verify(bookingService, times(1)).getByOwner(ONE_USER_ID, BookingSelectionState.ALL, "cursor", 1);
         }
 
         @SneakyThrows
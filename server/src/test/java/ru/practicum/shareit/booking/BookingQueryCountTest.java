@@ -0,0 +1,80 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.StatementBudget;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@Transactional
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingQueryCountTest {
+    private final BookingService bookingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long ownerId = 11L;
+    private final long bookerId = 12L;
+    private Statistics statistics;
+
+    @BeforeEach
+    void testInitialization() {
+        Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(Duration.ofDays(400));
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            bookings.add(new Object[]{1000L + i, bookerId, 31L + i % 3, ownerId,
+                    Timestamp.from(start.plus(Duration.ofDays(i))), Timestamp.from(start.plus(Duration.ofDays(i + 1)))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (id, booker_id, item_id, owner_id, start_date, end_date, status) "
+                                 + "VALUES (?, ?, ?, ?, ?, ?, 'WAITING')", bookings);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 30})
+    @StatementBudget(3)
+    void getByOwner_withAnyPageSize_thenRunConstantNumberOfStatements(int size) {
+        CursorPage<BookingDto> page = bookingService.getByOwner(ownerId, BookingSelectionState.ALL, null, size);
+
+        assertThat(page.getContent().size(), equalTo(size));
+        assertThat(loadCount(Booking.class), equalTo(0L));
+        assertThat(loadCount(Item.class), equalTo(0L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 30})
+    @StatementBudget(3)
+    void getByBooker_withAnyPageSize_thenRunConstantNumberOfStatements(int size) {
+        CursorPage<BookingDto> page = bookingService.getByBooker(bookerId, BookingSelectionState.FUTURE, null, size);
+
+        assertThat(page.getContent().size(), equalTo(size));
+        assertThat(loadCount(Booking.class), equalTo(0L));
+        assertThat(loadCount(Item.class), equalTo(0L));
+    }
+
+    private long loadCount(Class<?> entity) {
+        return statistics.getEntityStatistics(entity.getName()).getLoadCount();
+    }
+}
@@ -7,8 +7,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
@@ -19,13 +21,20 @@ import ru.practicum.shareit.exceptions.NotAvailableException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.util.CursorPage;
 import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.util.StatementBudget;
+import ru.practicum.shareit.util.TestDataset;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static ru.practicum.shareit.TestConstant.NOT_EXISTING_ID;
 import static ru.practicum.shareit.TestConstant.NOT_OWNER_ID;
@@ -37,11 +46,13 @@ import static ru.practicum.shareit.TestConstant.TIME_BEFORE;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class BookingServiceImplTest {
     private final BookingService bookingService;
+    private final JdbcTemplate jdbcTemplate;
     private BookingDto existingBooking;
     private NewBookingDto newBookingDto;
     private UserDto booker;
     private ItemDto item;
     private final long ownerId = 11L;
+    private final int pageSize = 10;
 
     @BeforeEach
     void testInitialization() {
@@ -79,9 +90,10 @@ class BookingServiceImplTest {
             BookingDto result = bookingService.addBooking(booker.getId(), newBookingDto);
 
             assertThat(result, notNullValue());
-            assertThat(result.getId(), equalTo(1L));
+            assertThat(result.getId(), notNullValue());
             assertThat(result.getItem().getName(), equalTo(item.getName()));
             assertThat(result.getStatus(), equalTo(BookingStatus.WAITING));
+            assertThat(bookingService.getById(booker.getId(), result.getId()), equalTo(result));
         }
 
         @Test
@@ -121,6 +133,16 @@ class BookingServiceImplTest {
             assertThat(result.getStatus(), equalTo(existingBooking.getStatus()));
         }
 
+        @Test
+        void changeStatus_withApproved_thenReturnApprovedBooking() {
+            long waitingBookingId = 44L;
+            BookingDto result = bookingService.changeStatus(ownerId, waitingBookingId, true);
+
+            assertThat(result, notNullValue());
+            assertThat(result.getId(), equalTo(waitingBookingId));
+            assertThat(result.getStatus(), equalTo(BookingStatus.APPROVED));
+        }
+
         @Test
         void changeStatus_withUserIdIsNotOwnerId_thenThrowNoAccessException() {
 
@@ -167,7 +189,7 @@ class BookingServiceImplTest {
         @ParameterizedTest
         @EnumSource(value = BookingSelectionState.class)
         void getByBooker_withValidBookerIdAndState_thenReturnResult(BookingSelectionState state) {
-            List<BookingDto> result = bookingService.getByBooker(booker.getId(), state);
+            List<BookingDto> result = bookingService.getByBooker(booker.getId(), state, null, pageSize).getContent();
 
             assertThat(result, notNullValue());
             switch (state) {
@@ -189,7 +211,7 @@ class BookingServiceImplTest {
         @EnumSource(value = BookingSelectionState.class)
         void getByOwner_withValidOwnerIdAndState_thenReturnResult(BookingSelectionState state) {
 
-            List<BookingDto> result = bookingService.getByOwner(ownerId, state);
+            List<BookingDto> result = bookingService.getByOwner(ownerId, state, null, pageSize).getContent();
 
             assertThat(result, notNullValue());
             switch (state) {
@@ -204,5 +226,99 @@ class BookingServiceImplTest {
                 case REJECTED -> assertThat(result.size(), equalTo(1));
             }
         }
+
+        @Test
+        void getByOwner_withCursor_thenReturnNextPage() {
+            CursorPage<BookingDto> firstPage = bookingService.getByOwner(ownerId, BookingSelectionState.ALL, null, 4);
+            CursorPage<BookingDto> secondPage = bookingService.getByOwner(ownerId, BookingSelectionState.ALL,
+                    firstPage.getNextCursor(), 4);
+
+            assertThat(firstPage.getContent().size(), equalTo(4));
+            assertThat(firstPage.getNextCursor(), notNullValue());
+            assertThat(secondPage.getContent().size(), equalTo(2));
+            assertThat(secondPage.getNextCursor(), nullValue());
+            assertThat(firstPage.getContent().getFirst().getId(), equalTo(existingBooking.getId()));
+        }
+
+        @Test
+        void getByOwner_withInvalidCursor_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> bookingService.getByOwner(ownerId, BookingSelectionState.ALL, "not-a-cursor", pageSize));
+        }
+
+        @Test
+        void getByOwner_withNotPositiveSize_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> bookingService.getByOwner(ownerId, BookingSelectionState.ALL, null, 0));
+        }
+
+        @Test
+        void getByOwner_withSizeAboveLimit_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> bookingService.getByOwner(ownerId, BookingSelectionState.ALL, null, Integer.MAX_VALUE));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statement budgets with growing datasets")
+    class TestStatementBudget {
+        private final Instant future = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(Duration.ofDays(400));
+        private TestDataset dataset;
+
+        @BeforeEach
+        void datasetInitialization() {
+            dataset = new TestDataset(jdbcTemplate);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(4)
+        void addBooking_withManyBookingsOfItem_thenStayInBudget(int size) {
+            List<Long> bookers = dataset.users(size);
+            bookers.forEach(bookerId -> dataset.bookings(bookerId, List.of(item.getId()), future, BookingStatus.WAITING));
+
+            BookingDto result = bookingService.addBooking(booker.getId(), newBookingDto);
+
+            assertThat(result.getStatus(), equalTo(BookingStatus.WAITING));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(2)
+        void getById_withManyCommentsOnItem_thenStayInBudget(int size) {
+            dataset.comments(booker.getId(), List.of(item.getId()), size);
+
+            BookingDto result = bookingService.getById(ownerId, existingBooking.getId());
+
+            assertThat(result.getItem().getComments().size(), equalTo(size + 1));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(3)
+        void getByBooker_withManyItemsAndComments_thenStayInBudget(int size) {
+            List<Long> items = dataset.items(ownerId, size);
+            dataset.comments(booker.getId(), items, 3);
+            dataset.bookings(booker.getId(), items, future, BookingStatus.WAITING);
+
+            List<BookingDto> result = bookingService.getByBooker(booker.getId(), BookingSelectionState.WAITING, null,
+                    size).getContent();
+
+            assertThat(result.size(), equalTo(size));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(3)
+        void getByOwner_withManyItemsAndComments_thenStayInBudget(int size) {
+            List<Long> items = dataset.items(ownerId, size);
+            dataset.comments(booker.getId(), items, 3);
+            dataset.bookings(booker.getId(), items, future, BookingStatus.WAITING);
+
+            List<BookingDto> result = bookingService.getByOwner(ownerId, BookingSelectionState.FUTURE, null, size)
+                    .getContent();
+
+            assertThat(result.size(), equalTo(size));
+        }
     }
-}
\ No newline at end of file
+}
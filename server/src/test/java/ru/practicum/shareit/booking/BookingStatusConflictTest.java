@@ -0,0 +1,78 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.selection.SelectionService;
+import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.exceptions.BookingOverlapException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.validateService.ValidateService;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookingStatusConflictTest {
+    private final long ownerId = 1L;
+    private final long bookingId = 2L;
+    private BookingRepository bookingRepository;
+    private BookingServiceImpl bookingService;
+
+    @BeforeEach
+    void testInitialization() {
+        bookingRepository = mock(BookingRepository.class);
+        ValidateService validateService = mock(ValidateService.class);
+        bookingService = new BookingServiceImpl(bookingRepository, mock(ItemRepository.class), validateService,
+                mock(BookingMapper.class), mock(SelectionService.class), mock(ItemCalendarService.class));
+
+        Item item = new Item();
+        item.setOwnerId(ownerId);
+        Booking booking = new Booking();
+        booking.setId(bookingId);
+        booking.setItem(item);
+        when(validateService.checkBooking(bookingId)).thenReturn(booking);
+    }
+
+    @Test
+    void changeStatus_withExclusionViolation_thenThrowBookingOverlapException() {
+        when(bookingRepository.saveAndFlush(any())).thenThrow(violation(
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        assertThrows(BookingOverlapException.class, () -> bookingService.changeStatus(ownerId, bookingId, true));
+    }
+
+    @Test
+    void changeStatus_withNamedOverlapConstraint_thenThrowBookingOverlapException() {
+        when(bookingRepository.saveAndFlush(any())).thenThrow(violation(
+                new org.hibernate.exception.ConstraintViolationException("overlap", null,
+                        "booking_approved_no_overlap")));
+
+        assertThrows(BookingOverlapException.class, () -> bookingService.changeStatus(ownerId, bookingId, true));
+    }
+
+    @Test
+    void changeStatus_withOtherConstraintViolation_thenRethrow() {
+        DataIntegrityViolationException foreignKey = violation(
+                new SQLException("violates foreign key constraint", "23503"));
+        when(bookingRepository.saveAndFlush(any())).thenThrow(foreignKey);
+
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class,
+                () -> bookingService.changeStatus(ownerId, bookingId, true));
+        assertThat(thrown, sameInstance(foreignKey));
+    }
+
+    private static DataIntegrityViolationException violation(Exception cause) {
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.booking.calendar;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarServiceImpl;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.validateService.ValidateService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemCalendarCacheTest {
+    private final long userId = 1L;
+    private final long itemId = 2L;
+    private final Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(Duration.ofDays(10));
+    private final String from = InstantMapper.mapInstantToString(start);
+    private final String to = InstantMapper.mapInstantToString(start.plus(Duration.ofDays(1)));
+    private BookingRepository bookingRepository;
+    private MeterRegistry meterRegistry;
+    private ItemCalendarServiceImpl calendarService;
+
+    @BeforeEach
+    void testInitialization() {
+        bookingRepository = mock(BookingRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        calendarService = new ItemCalendarServiceImpl(bookingRepository, mock(ValidateService.class), 100,
+                Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void getAvailability_withCachedCalendar_thenLoadOnce() {
+        when(bookingRepository.findByItemIdOrderByStart(itemId)).thenReturn(List.of());
+
+        calendarService.getAvailability(userId, itemId, from, to);
+        calendarService.getAvailability(userId, itemId, from, to);
+
+        verify(bookingRepository, times(1)).findByItemIdOrderByStart(itemId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "itemCalendar").tag("result", "hit")
+                .functionCounter().count(), equalTo(1.0));
+    }
+
+    @Test
+    void getAvailability_withBookingChangedDuringLoad_thenNotKeepLoadedCalendar() {
+        when(bookingRepository.findByItemIdOrderByStart(itemId)).thenAnswer(invocation -> {
+            calendarService.onBookingChanged(approvedBooking());
+            return List.of();
+        }).thenReturn(List.of(approvedBooking()));
+
+        calendarService.getAvailability(userId, itemId, from, to);
+
+        assertFalse(calendarService.getAvailability(userId, itemId, from, to).isAvailable());
+        verify(bookingRepository, times(2)).findByItemIdOrderByStart(itemId);
+    }
+
+    @Test
+    void onBookingChanged_withCachedCalendar_thenApplyWithoutReload() {
+        when(bookingRepository.findByItemIdOrderByStart(itemId)).thenReturn(List.of());
+        calendarService.getAvailability(userId, itemId, from, to);
+
+        calendarService.onBookingChanged(approvedBooking());
+
+        assertFalse(calendarService.getAvailability(userId, itemId, from, to).isAvailable());
+        verify(bookingRepository, times(1)).findByItemIdOrderByStart(itemId);
+    }
+
+    private Booking approvedBooking() {
+        Item item = new Item();
+        item.setId(itemId);
+        Booking booking = new Booking();
+        booking.setId(3L);
+        booking.setItem(item);
+        booking.setStart(start);
+        booking.setEnd(start.plus(Duration.ofDays(1)));
+        booking.setStatus(BookingStatus.APPROVED);
+        return booking;
+    }
+}
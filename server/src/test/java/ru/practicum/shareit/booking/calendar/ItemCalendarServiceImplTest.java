@@ -0,0 +1,104 @@
+package ru.practicum.shareit.booking.calendar;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.calendar.dto.FreeSlotDto;
+import ru.practicum.shareit.booking.calendar.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exceptions.NotAvailableException;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.util.InstantMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.practicum.shareit.TestConstant.NOT_EXISTING_ID;
+
+@Transactional
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemCalendarServiceImplTest {
+    private final ItemCalendarService calendarService;
+    private final BookingService bookingService;
+    private final long ownerId = 11L;
+    private final long itemId = 31L;
+    private final Instant tomorrow = LocalDate.now().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+    @Nested
+    @DisplayName("Tests for method - getAvailability")
+    class TestGetAvailability {
+        @Test
+        void getAvailability_withApprovedBookingInPeriod_thenReturnNotAvailable() {
+            ItemAvailabilityDto result = calendarService.getAvailability(ownerId, itemId,
+                    format(tomorrow.minus(Duration.ofDays(3))), format(tomorrow.plus(Duration.ofDays(3))));
+
+            assertFalse(result.isAvailable());
+        }
+
+        @Test
+        void getAvailability_withFreePeriod_thenReturnAvailable() {
+            ItemAvailabilityDto result = calendarService.getAvailability(ownerId, itemId,
+                    format(tomorrow.plus(Duration.ofDays(10))), format(tomorrow.plus(Duration.ofDays(11))));
+
+            assertTrue(result.isAvailable());
+        }
+
+        @Test
+        void getAvailability_withRejectedBooking_thenReleaseSlot() {
+            long approvedBookingId = 42L;
+            String from = format(tomorrow.minus(Duration.ofDays(3)));
+            String to = format(tomorrow.plus(Duration.ofDays(3)));
+            calendarService.getAvailability(ownerId, itemId, from, to);
+
+            bookingService.changeStatus(ownerId, approvedBookingId, false);
+
+            assertTrue(calendarService.getAvailability(ownerId, itemId, from, to).isAvailable());
+        }
+
+        @Test
+        void getAvailability_withEndBeforeStart_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class), () -> calendarService.getAvailability(ownerId, itemId,
+                    format(tomorrow.plus(Duration.ofDays(3))), format(tomorrow)));
+        }
+
+        @Test
+        void getAvailability_withNotExistingItemId_thenThrowNotFoundException() {
+            assertThrows((NotFoundException.class), () -> calendarService.getAvailability(ownerId, NOT_EXISTING_ID,
+                    format(tomorrow), format(tomorrow.plus(Duration.ofDays(1)))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method - getNextFreeSlot")
+    class TestGetNextFreeSlot {
+        @Test
+        void getNextFreeSlot_withLongDuration_thenReturnSlotAfterApprovedBooking() {
+            FreeSlotDto result = calendarService.getNextFreeSlot(ownerId, itemId, "P3D");
+
+            assertThat(result.getStart(), equalTo(format(tomorrow.plus(Duration.ofDays(1)))));
+        }
+
+        @Test
+        void getNextFreeSlot_withInvalidDuration_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> calendarService.getNextFreeSlot(ownerId, itemId, "three days"));
+        }
+    }
+
+    private static String format(Instant instant) {
+        return InstantMapper.mapInstantToString(instant);
+    }
+}
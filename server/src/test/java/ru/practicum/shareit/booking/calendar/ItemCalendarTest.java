@@ -0,0 +1,98 @@
+package ru.practicum.shareit.booking.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemCalendarTest {
+    private static final Instant BASE = Instant.parse("2030-01-01T00:00:00Z");
+    private ItemCalendar calendar;
+
+    @BeforeEach
+    void testInitialization() {
+        calendar = new ItemCalendar();
+    }
+
+    @Test
+    void isFree_withApprovedBookings_thenDetectOverlaps() {
+        calendar.apply(booking(1L, 10, 20, BookingStatus.APPROVED));
+        calendar.apply(booking(2L, 30, 40, BookingStatus.APPROVED));
+
+        assertTrue(calendar.isFree(hours(0), hours(10)));
+        assertTrue(calendar.isFree(hours(20), hours(30)));
+        assertFalse(calendar.isFree(hours(15), hours(16)));
+        assertFalse(calendar.isFree(hours(19), hours(31)));
+    }
+
+    @Test
+    void apply_withRejectedStatus_thenReleaseSlot() {
+        calendar.apply(booking(1L, 10, 20, BookingStatus.APPROVED));
+        calendar.apply(booking(1L, 10, 20, BookingStatus.REJECTED));
+
+        assertTrue(calendar.isFree(hours(10), hours(20)));
+    }
+
+    @Test
+    void findNextFreeSlot_withAdjacentBookings_thenSkipWholeChain() {
+        calendar.apply(booking(1L, 10, 20, BookingStatus.APPROVED));
+        calendar.apply(booking(2L, 20, 25, BookingStatus.APPROVED));
+        calendar.apply(booking(3L, 27, 40, BookingStatus.APPROVED));
+
+        assertThat(calendar.findNextFreeSlot(hours(0), Duration.ofHours(10)), equalTo(hours(0)));
+        assertThat(calendar.findNextFreeSlot(hours(12), Duration.ofHours(1)), equalTo(hours(25)));
+        assertThat(calendar.findNextFreeSlot(hours(12), Duration.ofHours(3)), equalTo(hours(40)));
+    }
+
+    @Test
+    void isFree_withRandomBookings_thenMatchLinearScan() {
+        Random random = new Random(42);
+        List<Booking> approved = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            int start = random.nextInt(5000);
+            Booking booking = booking(id, start, start + 1 + random.nextInt(30), BookingStatus.APPROVED);
+            calendar.apply(booking);
+            approved.add(booking);
+        }
+        for (int i = 0; i < 100; i++) {
+            Booking removed = approved.remove(random.nextInt(approved.size()));
+            removed.setStatus(BookingStatus.CANCELED);
+            calendar.apply(removed);
+        }
+        for (int i = 0; i < 1000; i++) {
+            Instant from = hours(random.nextInt(5100));
+            Instant to = from.plus(Duration.ofHours(1 + random.nextInt(10)));
+            boolean expected = approved.stream()
+                    .noneMatch(booking -> booking.getStart().isBefore(to) && booking.getEnd().isAfter(from));
+            assertThat(calendar.isFree(from, to), equalTo(expected));
+        }
+    }
+
+    private static Booking booking(Long id, int startHour, int endHour, BookingStatus status) {
+        Item item = new Item();
+        item.setId(1L);
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setStart(hours(startHour));
+        booking.setEnd(hours(endHour));
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private static Instant hours(int hours) {
+        return BASE.plus(Duration.ofHours(hours));
+    }
+}
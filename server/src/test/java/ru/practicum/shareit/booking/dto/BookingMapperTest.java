@@ -39,7 +39,8 @@ class BookingMapperTest {
                 hasProperty("end", equalTo(TIME_AFTER)),
                 hasProperty("status", equalTo(BookingStatus.WAITING)),
                 hasProperty("booker", equalTo(user)),
-                hasProperty("item", equalTo(item))
+                hasProperty("item", equalTo(item)),
+                hasProperty("ownerId", equalTo(item.getOwnerId()))
         ));
     }
 
@@ -70,6 +71,23 @@ class BookingMapperTest {
         assertThat(result.getFirst().getStatus(), equalTo(bookings.getFirst().getStatus()));
     }
 
+    @Test
+    void toDtoFromRow() {
+        BookingRow row = new BookingRow(11L, TIME_BEFORE, TIME_AFTER, BookingStatus.APPROVED,
+                22L, "test22", "test22@yandex.ru", 12L, "item12", "description", true, null);
+
+        BookingDto result = mapper.toDto(row, List.of("comment1"));
+
+        assertThat(result, allOf(
+                hasProperty("id", equalTo(row.getId())),
+                hasProperty("start", equalTo(InstantMapper.mapInstantToString(TIME_BEFORE))),
+                hasProperty("status", equalTo(BookingStatus.APPROVED))
+        ));
+        assertThat(result.getBooker().getEmail(), equalTo(row.getBookerEmail()));
+        assertThat(result.getItem().getName(), equalTo(row.getItemName()));
+        assertThat(result.getItem().getComments(), equalTo(List.of("comment1")));
+    }
+
     private Item getItem(Long id) {
         Item item = new Item();
         item.setId(id);
@@ -12,7 +12,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.calendar.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
 import ru.practicum.shareit.exceptions.NoAccessException;
+import ru.practicum.shareit.exceptions.NotAvailableException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.NewCommentDto;
@@ -20,6 +23,7 @@ import ru.practicum.shareit.item.comment.service.CommentService;
 import ru.practicum.shareit.item.dto.ItemBookingDatesDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.util.CursorPage;
 
 import java.util.List;
 
@@ -33,10 +37,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.TestConstant.NOT_EXISTING_ID;
 import static ru.practicum.shareit.TestConstant.NOT_OWNER_ID;
+import static ru.practicum.shareit.util.Constants.NEXT_CURSOR;
 import static ru.practicum.shareit.util.Constants.USER_ID;
 
 @WebMvcTest(controllers = ItemController.class)
@@ -46,6 +52,8 @@ class ItemControllerTest {
     private final ItemService itemService;
     @MockBean
     private final CommentService commentService;
+    @MockBean
+    private final ItemCalendarService calendarService;
     private final ObjectMapper mapper;
     private final MockMvc mvc;
     private ItemDto itemDto;
@@ -110,6 +118,23 @@ class ItemControllerTest {
             verify(itemService).get(ONE_USER_ID, ITEM_ID);
         }
 
+        @SneakyThrows
+        @Test
+        void getInventory_withNextPage_thenReturnOkWithCursorHeader() {
+            when(itemService.getInventory(ONE_USER_ID, null, 1))
+                    .thenReturn(new CursorPage<>(List.of(itemBookingDatesDto), ITEM_ID.toString()));
+
+            mvc.perform(get("/items/inventory")
+                            .header(USER_ID, ONE_USER_ID)
+                            .param("size", "1")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(NEXT_CURSOR, ITEM_ID.toString()))
+                    .andExpect(jsonPath("$.length()", is(1)));
+
+            verify(itemService).getInventory(ONE_USER_ID, null, 1);
+        }
+
         @SneakyThrows
         @Test
         void get_withNotExistingItemId_thenReturnNotFound() {
@@ -126,23 +151,25 @@ class ItemControllerTest {
         @SneakyThrows
         @Test
         void search_withText_thenReturnOk() {
-            when(itemService.search(ONE_USER_ID, "testText")).thenReturn(List.of(itemDto));
+            when(itemService.search(ONE_USER_ID, "testText", null, 10))
+                    .thenReturn(new CursorPage<>(List.of(itemDto), "42"));
 
             mvc.perform(get("/items/search")
                             .header(USER_ID, ONE_USER_ID)
                             .param("text", "testText")
                             .accept(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(NEXT_CURSOR, "42"))
                     .andExpect(jsonPath("$.length()", is(1)))
                     .andExpect(content().json(mapper.writeValueAsString(List.of(itemDto))));
 
-            verify(itemService).search(ONE_USER_ID, "testText");
+            verify(itemService).search(ONE_USER_ID, "testText", null, 10);
         }
 
         @SneakyThrows
         @Test
         void search_withoutText_thenReturnOk() {
-            when(itemService.search(ONE_USER_ID, null)).thenReturn(List.of());
+            when(itemService.search(ONE_USER_ID, null, null, 10)).thenReturn(new CursorPage<>(List.of(), null));
 
             mvc.perform(get("/items/search")
                             .header(USER_ID, ONE_USER_ID)
@@ -151,7 +178,39 @@ class ItemControllerTest {
                     .andExpect(jsonPath("$.length()", is(0)))
                     .andExpect(content().json(mapper.writeValueAsString(List.of())));
 
-            verify(itemService).search(ONE_USER_ID, null);
+            verify(itemService).search(ONE_USER_ID, null, null, 10);
+        }
+
+        @SneakyThrows
+        @Test
+        void getAvailability_withFreePeriod_thenReturnOk() {
+            String from = "2030-01-01T10:00:00";
+            String to = "2030-01-02T10:00:00";
+            ItemAvailabilityDto availabilityDto = new ItemAvailabilityDto(ITEM_ID, from, to, true);
+            when(calendarService.getAvailability(ONE_USER_ID, ITEM_ID, from, to)).thenReturn(availabilityDto);
+
+            mvc.perform(get("/items/{itemId}/availability", ITEM_ID)
+                            .header(USER_ID, ONE_USER_ID)
+                            .param("from", from)
+                            .param("to", to)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.available", is(true)));
+
+            verify(calendarService).getAvailability(ONE_USER_ID, ITEM_ID, from, to);
+        }
+
+        @SneakyThrows
+        @Test
+        void getNextFreeSlot_withInvalidDuration_thenReturnBadRequest() {
+            when(calendarService.getNextFreeSlot(ONE_USER_ID, ITEM_ID, "days")).thenThrow(NotAvailableException.class);
+
+            mvc.perform(get("/items/{itemId}/next-free-slot", ITEM_ID)
+                            .header(USER_ID, ONE_USER_ID)
+                            .param("duration", "days"))
+                    .andExpect(status().isBadRequest());
+
+            verify(calendarService).getNextFreeSlot(ONE_USER_ID, ITEM_ID, "days");
         }
     }
 
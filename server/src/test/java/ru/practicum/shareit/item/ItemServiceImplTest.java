@@ -3,22 +3,34 @@ package ru.practicum.shareit.item;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.exceptions.NoAccessException;
+import ru.practicum.shareit.exceptions.NotAvailableException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemBookingDatesDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.util.CursorPage;
 import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.util.StatementBudget;
+import ru.practicum.shareit.util.TestDataset;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,6 +50,7 @@ import static ru.practicum.shareit.TestConstant.NOT_OWNER_ID;
 class ItemServiceImplTest {
     private final EntityManager em;
     private final ItemService itemService;
+    private final JdbcTemplate jdbcTemplate;
     private Item existingItem;
     private ItemDto itemDto;
 
@@ -90,6 +103,23 @@ class ItemServiceImplTest {
             assertTrue(InstantMapper.mapStringToInstant(result.getNextBooking()).isAfter(Instant.now()));
         }
 
+        @Test
+        void get_withCanceledBookingAfterLastApproved_thenReturnStartOfLastApproved() {
+            ItemBookingDatesDto result = itemService.get(existingItem.getOwnerId(), existingItem.getId());
+
+            assertThat(result.getLastBooking(), equalTo("2025-03-25T15:15:15"));
+        }
+
+        @Test
+        void get_withoutApprovedBookings_thenReturnItemWithDatesOfBookingNull() {
+            long notApprovedItemId = 33L;
+
+            ItemBookingDatesDto result = itemService.get(existingItem.getOwnerId(), notApprovedItemId);
+
+            assertNull(result.getLastBooking());
+            assertNull(result.getNextBooking());
+        }
+
         @Test
         void get_withUserIdIsNotOwnerIdAndItemExist_thenReturnItemWithDatesOfBookingNull() {
             ItemBookingDatesDto result = itemService.get(NOT_OWNER_ID, existingItem.getId());
@@ -111,12 +141,65 @@ class ItemServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for method - getInventory")
+    class TestGetInventory {
+        @Test
+        void getInventory_withNextPage_thenReturnItemsWithDatesAndCursor() {
+            CursorPage<ItemBookingDatesDto> result = itemService.getInventory(existingItem.getOwnerId(), null, 2);
+
+            assertThat(result.getContent().size(), equalTo(2));
+            assertThat(result.getNextCursor(), equalTo("32"));
+            ItemBookingDatesDto first = result.getContent().getFirst();
+            assertThat(first.getId(), equalTo(existingItem.getId()));
+            assertThat(first.getComments(), equalTo(existingItem.getComments()));
+            assertThat(first.getLastBooking(), equalTo("2025-03-25T15:15:15"));
+            assertTrue(InstantMapper.mapStringToInstant(first.getNextBooking()).isAfter(Instant.now()));
+        }
+
+        @Test
+        void getInventory_withLastPageCursor_thenReturnRestWithoutCursor() {
+            CursorPage<ItemBookingDatesDto> result = itemService.getInventory(existingItem.getOwnerId(), "32", 2);
+
+            assertThat(result.getContent().size(), equalTo(1));
+            assertThat(result.getContent().getFirst().getId(), equalTo(33L));
+            assertNull(result.getContent().getFirst().getLastBooking());
+            assertThat(result.getContent().getFirst().getComments(), equalTo(List.of()));
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        void getInventory_withAnyPageSize_thenRunConstantNumberOfStatements() {
+            Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            for (int size = 1; size <= 3; size++) {
+                statistics.clear();
+
+                itemService.getInventory(existingItem.getOwnerId(), null, size);
+
+                assertThat(statistics.getPrepareStatementCount(), equalTo(4L));
+                em.clear();
+            }
+        }
+
+        @Test
+        void getInventory_withInvalidCursor_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> itemService.getInventory(existingItem.getOwnerId(), "item", 2));
+        }
+
+        @Test
+        void getInventory_withZeroSize_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> itemService.getInventory(existingItem.getOwnerId(), null, 0));
+        }
+    }
+
     @Nested
     @DisplayName("Tests for method - search")
     class TestSearch {
         @Test
         void search_withValidUserIdAndSuitableText_thenReturnRightResult() {
-            List<ItemDto> result = itemService.search(existingItem.getOwnerId(), "item1");
+            List<ItemDto> result = itemService.search(existingItem.getOwnerId(), "item1", null, 10).getContent();
 
             assertThat(result.size(), equalTo(1));
             assertThat(result.getFirst(), equalTo(itemDto));
@@ -125,14 +208,33 @@ class ItemServiceImplTest {
 
         @Test
         void search_withValidUserIdAndTextIsBlank_thenReturnEmptyList() {
-            List<ItemDto> result = itemService.search(existingItem.getOwnerId(), "");
+            List<ItemDto> result = itemService.search(existingItem.getOwnerId(), "", null, 10).getContent();
 
             assertTrue(result.isEmpty());
         }
 
         @Test
         void search_withNotExistingUserId_thenThrowNotFoundException() {
-            assertThrows((NotFoundException.class), () -> itemService.search(NOT_EXISTING_ID, "item1"));
+            assertThrows((NotFoundException.class), () -> itemService.search(NOT_EXISTING_ID, "item1", null, 10));
+        }
+
+        @Test
+        void search_withCursor_thenReturnNextPage() {
+            CursorPage<ItemDto> firstPage = itemService.search(existingItem.getOwnerId(), "item", null, 1);
+            CursorPage<ItemDto> secondPage = itemService.search(existingItem.getOwnerId(), "item",
+                    firstPage.getNextCursor(), 1);
+
+            assertThat(firstPage.getContent().getFirst().getId(), equalTo(existingItem.getId()));
+            assertThat(firstPage.getNextCursor(), equalTo(existingItem.getId().toString()));
+            assertThat(secondPage.getContent().size(), equalTo(1));
+            assertThat(secondPage.getContent().getFirst().getName(), equalTo("item2"));
+            assertNull(secondPage.getNextCursor());
+        }
+
+        @Test
+        void search_withZeroSize_thenThrowNotAvailableException() {
+            assertThrows((NotAvailableException.class),
+                    () -> itemService.search(existingItem.getOwnerId(), "item1", null, 0));
         }
     }
 
@@ -229,4 +331,72 @@ class ItemServiceImplTest {
             assertThrows((NotFoundException.class), () -> itemService.delete(existingItem.getOwnerId(), NOT_EXISTING_ID));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Statement budgets with growing datasets")
+    class TestStatementBudget {
+        private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        private final long bookerId = 12L;
+        private TestDataset dataset;
+
+        @BeforeEach
+        void datasetInitialization() {
+            dataset = new TestDataset(jdbcTemplate);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(3)
+        void getAll_withManyItemsCommentsAndBookings_thenStayInBudget(int size) {
+            List<Long> items = dataset.items(existingItem.getOwnerId(), size);
+            dataset.comments(bookerId, items, 3);
+            dataset.bookings(bookerId, items, now.minus(Duration.ofDays(10)), BookingStatus.APPROVED);
+            dataset.bookings(bookerId, items, now.plus(Duration.ofDays(10)), BookingStatus.APPROVED);
+
+            List<ItemDto> result = itemService.getAll(existingItem.getOwnerId());
+
+            assertThat(result.size(), equalTo(size + 3));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(4)
+        void get_withManyBookingsAndComments_thenStayInBudget(int size) {
+            List<Long> bookers = dataset.users(size);
+            for (int i = 0; i < size; i++) {
+                dataset.bookings(bookers.get(i), List.of(existingItem.getId()),
+                        now.plus(Duration.ofDays(10L + 2L * i)), BookingStatus.APPROVED);
+            }
+            dataset.comments(bookerId, List.of(existingItem.getId()), size);
+
+            ItemBookingDatesDto result = itemService.get(existingItem.getOwnerId(), existingItem.getId());
+
+            assertThat(result.getComments().size(), equalTo(size + 1));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(4)
+        void getInventory_withManyItemsCommentsAndBookings_thenStayInBudget(int size) {
+            List<Long> items = dataset.items(existingItem.getOwnerId(), size);
+            dataset.comments(bookerId, items, 3);
+            dataset.bookings(bookerId, items, now.plus(Duration.ofDays(10)), BookingStatus.APPROVED);
+
+            CursorPage<ItemBookingDatesDto> result = itemService.getInventory(existingItem.getOwnerId(), null, size);
+
+            assertThat(result.getContent().size(), equalTo(size));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 50})
+        @StatementBudget(3)
+        void search_withManyMatchingItems_thenStayInBudget(int size) {
+            List<Long> items = dataset.items(existingItem.getOwnerId(), size);
+            dataset.comments(bookerId, items, 3);
+
+            CursorPage<ItemDto> result = itemService.search(bookerId, "item", null, size);
+
+            assertThat(result.getContent().size(), equalTo(size));
+        }
+    }
+}
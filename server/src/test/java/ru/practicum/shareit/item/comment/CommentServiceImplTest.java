@@ -3,13 +3,23 @@ package ru.practicum.shareit.item.comment;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.exceptions.NotAvailableException;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.NewCommentDto;
 import ru.practicum.shareit.item.comment.service.CommentService;
+import ru.practicum.shareit.util.StatementBudget;
+import ru.practicum.shareit.util.TestDataset;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -23,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class CommentServiceImplTest {
     private final CommentService commentService;
+    private final JdbcTemplate jdbcTemplate;
     private NewCommentDto newCommentDto;
     private final long bookerId = 12L;
 
@@ -52,4 +63,21 @@ class CommentServiceImplTest {
         assertThrows((NotAvailableException.class),
                 () -> commentService.create(bookerId, itemWithCurrentBooking, newCommentDto));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @StatementBudget(4)
+    void create_withManyCommentsAndPastBookings_thenStayInBudget(int size) {
+        long itemBookedInPast = 31;
+        TestDataset dataset = new TestDataset(jdbcTemplate);
+        dataset.comments(bookerId, List.of(itemBookedInPast), size);
+        for (int i = 0; i < size; i++) {
+            dataset.bookings(bookerId, List.of(itemBookedInPast),
+                    Instant.now().minus(Duration.ofDays(100L + 2L * i)), BookingStatus.APPROVED);
+        }
+
+        CommentDto result = commentService.create(bookerId, itemBookedInPast, newCommentDto);
+
+        assertThat(result.getText(), equalTo(newCommentDto.getText()));
+    }
+}
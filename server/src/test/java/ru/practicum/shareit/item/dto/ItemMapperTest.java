@@ -2,7 +2,9 @@ package ru.practicum.shareit.item.dto;
 
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
+import ru.practicum.shareit.booking.dto.BookingDates;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
 
@@ -54,6 +56,22 @@ class ItemMapperTest {
         ));
     }
 
+    @Test
+    void toDto_withComments_thenMapRequestId() {
+        Item item = getItem(18L);
+        ItemRequest request = new ItemRequest();
+        request.setId(4L);
+        item.setRequest(request);
+
+        ItemDto result = mapper.toDto(item, List.of("comment"));
+
+        assertThat(result, allOf(
+                hasProperty("id", equalTo(item.getId())),
+                hasProperty("requestId", equalTo(4L)),
+                hasProperty("comments", contains("comment"))
+        ));
+    }
+
     @Test
     void toBookingDatesDto_shouldMapToDtoWithBookingDates() {
         Item item = getItem(20L);
@@ -72,6 +90,25 @@ class ItemMapperTest {
         ));
     }
 
+    @Test
+    void toBookingDatesDto_withDatesAndComments_thenMapRequestId() {
+        Item item = getItem(21L);
+        ItemRequest request = new ItemRequest();
+        request.setId(5L);
+        item.setRequest(request);
+
+        ItemBookingDatesDto result = mapper.toBookingDatesDto(item, new BookingDates(21L, TIME_BEFORE, null),
+                List.of("comment"));
+
+        assertThat(result, allOf(
+                hasProperty("id", equalTo(item.getId())),
+                hasProperty("requestId", equalTo(5L)),
+                hasProperty("comments", contains("comment")),
+                hasProperty("lastBooking", notNullValue()),
+                hasProperty("nextBooking", nullValue())
+        ));
+    }
+
     @Test
     void toDto_shouldMapToListDto() {
         List<Item> items = List.of(getItem(1L), getItem(2L));
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.CursorPage;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against PostgreSQL only, since H2 has no full-text search. Start a database, for example the one from
+ * docker-compose.yml, and pass its url: {@code mvn test -Dshareit.test.postgres.url=jdbc:postgresql://localhost:5432/shareit}.
+ */
+@Transactional
+@SpringBootTest(properties = {
+        "spring.datasource.url=${shareit.test.postgres.url}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.sql.init.platform=postgres",
+        "shareit.search.mode=fulltext"})
+@EnabledIfSystemProperty(named = "shareit.test.postgres.url", matches = ".+")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class FullTextItemSearchEngineTest {
+    private final ItemSearchEngine searchEngine;
+    private final JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void testInitialization() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@shareit.ru')");
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, owner_id, name, description, available) "
+                                 + "VALUES (?, 1, ?, ?, ?)", List.of(
+                new Object[]{1, "Перфоратор", "Сверлит бетон лучше любой дрели", true},
+                new Object[]{2, "Дрель аккумуляторная", "Два аккумулятора в комплекте", true},
+                new Object[]{3, "Дрель ударная", "Сломана", false},
+                new Object[]{4, "Отвёртка", "Крестовая", true}));
+    }
+
+    @Test
+    void search_withWordForm_thenMatchStemsOfAvailableItemsRankedByName() {
+        CursorPage<Item> page = searchEngine.search("дрели", 0, 10);
+
+        assertThat(searchEngine, instanceOf(FullTextItemSearchEngine.class));
+        assertThat(ids(page), contains(2L, 1L));
+        assertThat(page.getNextCursor(), nullValue());
+    }
+
+    @Test
+    void search_withMoreResultsThanPage_thenReturnNextCursor() {
+        CursorPage<Item> first = searchEngine.search("дрель", 0, 1);
+        CursorPage<Item> second = searchEngine.search("дрель", 1, 1);
+
+        assertThat(ids(first), contains(2L));
+        assertThat(first.getNextCursor(), notNullValue());
+        assertThat(ids(second), contains(1L));
+        assertThat(second.getNextCursor(), nullValue());
+    }
+
+    @Test
+    void search_withSequentialScansDisabled_thenUseGinIndex() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT id FROM items "
+                + "WHERE search_vector @@ websearch_to_tsquery('russian', 'дрель')", String.class));
+
+        assertThat(plan, containsString("index_item_search"));
+        assertThat(searchEngine.search("дрель", 0, 10).getContent().size(), equalTo(2));
+    }
+
+    @Test
+    void mayMatch_withItemsFoundByDatabase_thenNeverRuleThemOut() {
+        for (String query : List.of("дрели", "дрель", "аккумулятор", "аккумуляторами", "сверлить", "бетоном",
+                "отвертки", "крестовой", "дрель для бетона", "сломанный", "\"два аккумулятора\"", "дрель or пила")) {
+            for (Item item : searchEngine.search(query, 0, 10).getContent()) {
+                assertTrue(searchEngine.mayMatch(query, new ItemDocument(item, List.of())), query + " " + item.getName());
+            }
+        }
+        Item screwdriver = searchEngine.search("отвертки", 0, 10).getContent().getFirst();
+        assertFalse(searchEngine.mayMatch("дрели", new ItemDocument(screwdriver, List.of())));
+    }
+
+    private static List<Long> ids(CursorPage<Item> page) {
+        return page.getContent().stream()
+                .map(Item::getId)
+                .toList();
+    }
+}
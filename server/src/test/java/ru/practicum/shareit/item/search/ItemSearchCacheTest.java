@@ -0,0 +1,129 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.CursorPage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ItemSearchCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private ItemSearchCache cache;
+
+    @BeforeEach
+    void testInitialization() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ItemSearchCache(new LikeItemSearchEngine(null), 100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void get_withSameNormalizedQuery_thenLoadOnce() {
+        CursorPage<ItemDto> first = get(ItemSearchCache.normalize("  Drill "), 0);
+        CursorPage<ItemDto> second = get(ItemSearchCache.normalize("drill"), 0);
+
+        assertThat(second, sameInstance(first));
+        assertThat(loads.get(), equalTo(1));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count(), equalTo(1.0));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count(), equalTo(1.0));
+    }
+
+    @Test
+    void evict_withMatchingItem_thenDropOnlyMatchingQueries() {
+        get("drill", 0);
+        get("drill", 10);
+        get("saw", 0);
+
+        cache.evict(document("Cordless DRILL", true));
+        get("drill", 0);
+        get("drill", 10);
+        get("saw", 0);
+
+        assertThat(loads.get(), equalTo(5));
+        assertThat(meterRegistry.get("cache.invalidations").counter().count(), equalTo(2.0));
+    }
+
+    @Test
+    void evict_withPreviousStateMatching_thenDropQueryOfOldName() {
+        get("drill", 0);
+
+        cache.evict(document("drill", true), document("hammer", true));
+        get("drill", 0);
+
+        assertThat(loads.get(), equalTo(2));
+    }
+
+    @Test
+    void evict_withNotAvailableItem_thenKeepQueries() {
+        get("drill", 0);
+
+        cache.evict(document("drill", false));
+        get("drill", 0);
+
+        assertThat(loads.get(), equalTo(1));
+    }
+
+    @Test
+    void get_withEvictionDuringLoad_thenNotKeepLoadedPage() {
+        cache.get("drill", 0, 10, () -> {
+            cache.evict(document("saw", true));
+            return load();
+        });
+        get("drill", 0);
+
+        assertThat(loads.get(), equalTo(2));
+    }
+
+    @Test
+    void evict_withFullTextEngine_thenDropOnlyQueriesSharingStemPrefix() {
+        cache = new ItemSearchCache(new FullTextItemSearchEngine(null), 100, Duration.ofMinutes(1), meterRegistry);
+        get("дрели", 0);
+        get("пила", 0);
+        get("cordless saw", 0);
+
+        cache.evict(document("Дрель аккумуляторная", true));
+        get("дрели", 0);
+        get("пила", 0);
+        get("cordless saw", 0);
+
+        assertThat(loads.get(), equalTo(4));
+    }
+
+    @Test
+    void evict_withFullTextEngineAndNegatedWord_thenDropQuery() {
+        cache = new ItemSearchCache(new FullTextItemSearchEngine(null), 100, Duration.ofMinutes(1), meterRegistry);
+        get("-пила", 0);
+
+        cache.evict(document("Дрель", true));
+        get("-пила", 0);
+
+        assertThat(loads.get(), equalTo(2));
+    }
+
+    private CursorPage<ItemDto> get(String query, long position) {
+        return cache.get(query, position, 10, this::load);
+    }
+
+    private CursorPage<ItemDto> load() {
+        loads.incrementAndGet();
+        return new CursorPage<>(List.of(), null);
+    }
+
+    private static ItemDocument document(String name, boolean available) {
+        Item item = new Item();
+        item.setId(1L);
+        item.setName(name);
+        item.setAvailable(available);
+        return new ItemDocument(item, List.of());
+    }
+}
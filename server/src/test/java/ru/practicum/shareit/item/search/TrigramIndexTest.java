@@ -0,0 +1,191 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+    private static final String[] WORDS = {"дрель", "drill", "пила", "saw", "молоток", "hammer", "лестница", "tent"};
+    private TrigramIndex index;
+
+    @BeforeEach
+    void testInitialization() {
+        index = new TrigramIndex();
+    }
+
+    @Test
+    void search_withSubstringOfNameOrDescription_thenIgnoreCase() {
+        index.put(document(1L, "Дрель ударная", "Для бетона", true));
+        index.put(document(2L, "Пила", "Подходит к ДРЕЛИ", true));
+        index.put(document(3L, "Drill", "cordless", true));
+
+        assertThat(ids(index.search("ДРЕЛ", 0, 10)), contains(1L, 2L));
+        assertThat(ids(index.search("rill", 0, 10)), contains(3L));
+        assertThat(ids(index.search("ля бет", 0, 10)), contains(1L));
+    }
+
+    @Test
+    void search_withTrigramsFromDifferentFields_thenRejectFalsePositive() {
+        index.put(document(1L, "abc", "def", true));
+
+        assertThat(index.search("abcdef", 0, 10), empty());
+        assertThat(index.search("cde", 0, 10), empty());
+    }
+
+    @Test
+    void search_withNotAvailableItem_thenSkipIt() {
+        index.put(document(1L, "drill", "", false));
+        index.put(document(2L, "drill", "", true));
+
+        assertThat(ids(index.search("drill", 0, 10)), contains(2L));
+        assertThat(ids(index.search("dr", 0, 10)), contains(2L));
+    }
+
+    @Test
+    void search_withIdAboveIntRange_thenFindIt() {
+        long itemId = Integer.MAX_VALUE + 10L;
+        index.put(document(itemId, "drill", "", true));
+        index.put(document(itemId + 1, "drill", "", false));
+
+        assertThat(ids(index.search("drill", 0, 10)), contains(itemId));
+    }
+
+    @Test
+    void put_withChangedDocument_thenReplacePostings() {
+        index.put(document(1L, "drill", "", true));
+        index.put(document(1L, "hammer", "", true));
+
+        assertThat(index.search("drill", 0, 10), empty());
+        assertThat(ids(index.search("hammer", 0, 10)), contains(1L));
+    }
+
+    @Test
+    void remove_withIndexedDocument_thenExcludeFromResults() {
+        index.put(document(1L, "drill", "", true));
+        index.remove(1L);
+
+        assertThat(index.search("drill", 0, 10), empty());
+        assertThat(index.size(), equalTo(0));
+    }
+
+    @Test
+    void search_withCursorAndLimit_thenReturnNextIdsInOrder() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(document(id, "drill " + id, "", true));
+        }
+
+        assertThat(ids(index.search("drill", 0, 2)), contains(1L, 2L));
+        assertThat(ids(index.search("drill", 2, 2)), contains(3L, 4L));
+        assertThat(ids(index.search("drill", 4, 2)), contains(5L));
+    }
+
+    @Test
+    void search_withRandomUpdates_thenMatchLinearScan() {
+        Random random = new Random(42);
+        Map<Long, ItemDocument> expected = new TreeMap<>();
+        for (int i = 0; i < 3000; i++) {
+            long id = 1 + random.nextInt(400);
+            if (random.nextInt(5) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                ItemDocument document = document(id, phrase(random), phrase(random), random.nextInt(4) != 0);
+                index.put(document);
+                expected.put(id, document);
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            int from = random.nextInt(word.length() - 1);
+            String query = word.substring(from, from + 2 + random.nextInt(word.length() - from - 1));
+            long cursor = random.nextInt(400);
+            List<Long> matching = expected.values().stream()
+                    .filter(document -> document.getId() > cursor)
+                    .filter(document -> document.isAvailable() && document.matches(query))
+                    .map(ItemDocument::getId)
+                    .limit(20)
+                    .toList();
+            assertThat(ids(index.search(query.toUpperCase(), cursor, 20)), equalTo(matching));
+        }
+    }
+
+    @Test
+    void search_withConcurrentWriters_thenNeverSeeTornDocument() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int writer = 0; writer < 2; writer++) {
+            long offset = writer * 1000L;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 5000; i++) {
+                        long id = offset + 1 + i % 100;
+                        index.put(document(id, i / 100 % 2 == 0 ? "drill" : "hammer", "", true));
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+        for (int reader = 0; reader < 2; reader++) {
+            threads.add(new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        for (ItemDocument document : index.search("drill", 0, 1000)) {
+                            assertThat(document.getName(), equalTo("drill"));
+                        }
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        threads.get(0).join();
+        threads.get(1).join();
+        running.set(false);
+        done.await();
+
+        assertTrue(errors.isEmpty(), () -> errors.peek().toString());
+        assertThat(index.size(), equalTo(200));
+        assertThat(index.search("hammer", 0, 1000).size(), equalTo(200));
+    }
+
+    private static String phrase(Random random) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static ItemDocument document(Long id, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setId(id);
+        item.setOwnerId(1L);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return new ItemDocument(item, List.of());
+    }
+
+    private static List<Long> ids(List<ItemDocument> documents) {
+        return documents.stream().map(ItemDocument::getId).toList();
+    }
+}
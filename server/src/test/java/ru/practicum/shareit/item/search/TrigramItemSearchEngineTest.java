@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.util.StatementBudget;
+import ru.practicum.shareit.validateService.ValidateService;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+@SpringBootTest(properties = "shareit.search.mode=trigram")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class TrigramItemSearchEngineTest {
+    private final ItemService itemService;
+    private final ItemSearchEngine searchEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ValidateService validateService;
+    private final long ownerId = 11L;
+    private final long itemId = 32L;
+
+    @BeforeEach
+    void testInitialization() {
+        validateService.checkUser(ownerId);
+    }
+
+    @Test
+    void search_afterStartup_thenServeAvailableItemsFromIndex() {
+        assertThat(searchEngine, instanceOf(TrigramItemSearchEngine.class));
+        assertThat(names(itemService.search(ownerId, "ITEM", null, 10).getContent()), contains("item1", "item2"));
+        assertThat(names(itemService.search(ownerId, "scription2", null, 10).getContent()), contains("item2"));
+    }
+
+    @Test
+    @StatementBudget(0)
+    void search_withCommentedItem_thenTakeCommentsFromIndex() {
+        List<ItemDto> result = itemService.search(ownerId, "description1", null, 10).getContent();
+
+        assertThat(result.size(), equalTo(1));
+        assertThat(result.getFirst().getComments(), contains("test comment"));
+    }
+
+    @Test
+    void update_withCommittedTransaction_thenReindexItem() {
+        ItemDto renamed = new ItemDto();
+        renamed.setName("гайковёрт");
+        try {
+            itemService.update(ownerId, itemId, renamed);
+
+            assertThat(names(itemService.search(ownerId, "ГАЙКОВ", null, 10).getContent()), contains("гайковёрт"));
+            assertThat(names(itemService.search(ownerId, "item", null, 10).getContent()), contains("item1"));
+        } finally {
+            renamed.setName("item2");
+            itemService.update(ownerId, itemId, renamed);
+        }
+        assertThat(names(itemService.search(ownerId, "item", null, 10).getContent()), contains("item1", "item2"));
+    }
+
+    @Test
+    void update_withRolledBackTransaction_thenKeepIndexUnchanged() {
+        ItemDto renamed = new ItemDto();
+        renamed.setName("гайковёрт");
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.update(ownerId, itemId, renamed);
+            status.setRollbackOnly();
+        });
+
+        assertThat(itemService.search(ownerId, "гайковёрт", null, 10).getContent(), empty());
+        assertThat(names(itemService.search(ownerId, "item", null, 10).getContent()), contains("item1", "item2"));
+    }
+
+    private static List<String> names(List<ItemDto> items) {
+        return items.stream().map(ItemDto::getName).toList();
+    }
+}
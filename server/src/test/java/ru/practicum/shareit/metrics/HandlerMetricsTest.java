@@ -0,0 +1,108 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class HandlerMetricsTest {
+    private final MockMvc mvc;
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+
+    @Nested
+    class TestHandlerTimers {
+        @Test
+        @SneakyThrows
+        void getByOwner_withState_thenRecordPerState() {
+            mvc.perform(get("/bookings/owner")
+                            .header(USER_ID, 11L)
+                            .param("state", "FUTURE"))
+                    .andExpect(status().isOk());
+
+            Timer duration = meterRegistry.get("server.handler.duration")
+                    .tags("controller", "BookingController", "method", "getAllBookingsByOwner",
+                            "state", "FUTURE", "status", "200")
+                    .timer();
+            assertThat(duration.count(), equalTo(1L));
+            assertThat(duration.takeSnapshot().percentileValues(), arrayWithSize(3));
+
+            Timer dbTime = meterRegistry.get("server.handler.db.time").tag("state", "FUTURE").timer();
+            DistributionSummary statements = meterRegistry.get("server.handler.db.statements")
+                    .tag("state", "FUTURE").summary();
+            assertThat(statements.totalAmount(), greaterThan(0.0));
+            assertThat(dbTime.totalTime(TimeUnit.NANOSECONDS), greaterThan(0.0));
+            assertThat(dbTime.totalTime(TimeUnit.NANOSECONDS),
+                    lessThanOrEqualTo(duration.totalTime(TimeUnit.NANOSECONDS)));
+        }
+
+        @Test
+        @SneakyThrows
+        void getByBooker_withoutState_thenRecordAll() {
+            mvc.perform(get("/bookings")
+                            .header(USER_ID, 13L))
+                    .andExpect(status().isOk());
+
+            assertThat(meterRegistry.get("server.handler.duration")
+                    .tags("method", "getAllBookings", "state", "ALL")
+                    .timer().count(), greaterThanOrEqualTo(1L));
+        }
+
+        @Test
+        @SneakyThrows
+        void getByBooker_withUnknownState_thenRecordInvalid() {
+            mvc.perform(get("/bookings")
+                            .header(USER_ID, 12L)
+                            .param("state", "SOMETIME"));
+
+            assertThat(meterRegistry.get("server.handler.db.statements")
+                    .tags("method", "getAllBookings", "state", "INVALID")
+                    .summary().totalAmount(), equalTo(0.0));
+        }
+
+        @Test
+        @SneakyThrows
+        void getItem_thenRecordWithoutState() {
+            mvc.perform(get("/items/{itemId}", 31L)
+                            .header(USER_ID, 11L))
+                    .andExpect(status().isOk());
+
+            assertThat(meterRegistry.get("server.handler.duration")
+                    .tags("controller", "ItemController", "state", "none")
+                    .timer().count(), greaterThanOrEqualTo(1L));
+        }
+    }
+
+    @Nested
+    class TestStatementTiming {
+        @Test
+        void dataSource_thenWrapsPool() throws Exception {
+            assertThat(dataSource.isWrapperFor(StatementTimingDataSource.class), equalTo(true));
+        }
+    }
+}
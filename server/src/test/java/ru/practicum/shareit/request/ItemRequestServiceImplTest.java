@@ -3,14 +3,19 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.NewItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.util.StatementBudget;
+import ru.practicum.shareit.util.TestDataset;
 
 import java.util.List;
 
@@ -23,6 +28,7 @@ import static org.hamcrest.Matchers.notNullValue;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemRequestServiceImplTest {
     private final ItemRequestService requestService;
+    private final JdbcTemplate jdbcTemplate;
     private ItemRequestDto existingRequest;
     private ItemRequestDto createdRequestDto;
     private UserDto requestor;
@@ -91,4 +97,43 @@ class ItemRequestServiceImplTest {
         assertThat(result.getItems(), equalTo(List.of()));
         assertThat(result.getRequestor().getName(), equalTo(requestor.getName()));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @StatementBudget(3)
+    void getAllByUser_withManyRequestsAndItems_thenStayInBudget(int size) {
+        TestDataset dataset = new TestDataset(jdbcTemplate);
+        List<Long> requests = dataset.requests(requestor.getId(), size);
+        requests.forEach(requestId -> dataset.items(13L, 2, requestId));
+
+        List<ItemRequestDto> result = requestService.getAllByUser(requestor.getId());
+
+        assertThat(result.size(), equalTo(size + 1));
+        assertThat(result.getFirst().getItems().size(), equalTo(2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @StatementBudget(1)
+    void getAll_withManyRequestsAndItems_thenStayInBudget(int size) {
+        TestDataset dataset = new TestDataset(jdbcTemplate);
+        List<Long> requestors = dataset.users(size);
+        requestors.forEach(requestorId -> dataset.items(13L, 2, dataset.requests(requestorId, 1).getFirst()));
+
+        List<ItemRequestDto> result = requestService.getAll();
+
+        assertThat(result.size(), equalTo(size + 2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @StatementBudget(2)
+    void getById_withManyItems_thenStayInBudget(int size) {
+        TestDataset dataset = new TestDataset(jdbcTemplate);
+        dataset.items(13L, size, existingRequest.getId());
+
+        ItemRequestDto result = requestService.getById(existingRequest.getId());
+
+        assertThat(result.getItems().size(), equalTo(size));
+    }
+}
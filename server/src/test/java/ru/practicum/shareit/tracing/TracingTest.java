@@ -0,0 +1,105 @@
+package ru.practicum.shareit.tracing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.tracing.TracingFilter.TRACEPARENT;
+import static ru.practicum.shareit.util.Constants.USER_ID;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class TracingTest {
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+    private final MockMvc mvc;
+    private final TraceEndpoint traceEndpoint;
+
+    @Nested
+    class TestPropagation {
+        @Test
+        @SneakyThrows
+        void getBooking_withTraceparent_thenContinueTraceWithoutEchoingIt() {
+            String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+            mvc.perform(get("/bookings/{bookingId}", 41L)
+                            .header(USER_ID, 12L)
+                            .header(TRACEPARENT, "00-" + traceId + "-" + PARENT_ID + "-01"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(TRACEPARENT));
+
+            List<Span> spans = traceEndpoint.trace(traceId);
+            Span request = spans.getFirst();
+            assertThat(request.getName(), equalTo("GET /bookings/{bookingId}"));
+            assertThat(request.getParentId(), equalTo(PARENT_ID));
+            assertThat(request.getTags().get("http.status"), equalTo("200"));
+
+            Map<String, Span> byName = spans.stream().collect(Collectors.toMap(Span::getName, Function.identity()));
+            Span lookup = byName.get("ValidateService.checkBooking");
+            assertThat(lookup.getParentId(), equalTo(request.getSpanId()));
+            assertThat(byName.get("BookingRepository.findById").getParentId(), equalTo(lookup.getSpanId()));
+        }
+
+        @Test
+        @SneakyThrows
+        void getBooking_withMalformedTraceparent_thenStartNewTrace() {
+            String traceparent = mvc.perform(get("/bookings/{bookingId}", 41L)
+                            .header(USER_ID, 12L)
+                            .header(TRACEPARENT, "00-not-a-trace-01"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(TRACEPARENT);
+
+            String traceId = traceparent.split("-")[1];
+            assertThat(traceEndpoint.trace(traceId).getFirst().getParentId(), nullValue());
+        }
+
+        @Test
+        @SneakyThrows
+        void getBooking_withNoAccess_thenTagStatus() {
+            String traceId = "0af7651916cd43dd8448eb211c80319c";
+
+            mvc.perform(get("/bookings/{bookingId}", 41L)
+                            .header(USER_ID, 13L)
+                            .header(TRACEPARENT, "00-" + traceId + "-" + PARENT_ID + "-01"))
+                    .andExpect(status().isForbidden());
+
+            assertThat(traceEndpoint.trace(traceId).getFirst().getTags().get("http.status"), equalTo("403"));
+        }
+    }
+
+    @Nested
+    class TestEndpoint {
+        @Test
+        @SneakyThrows
+        void traces_thenListRecentRequests() {
+            String traceId = "5b8aa5a2d2c872e8321cf37308d69df2";
+
+            mvc.perform(get("/users/{userId}", 11L)
+                            .header(TRACEPARENT, "00-" + traceId + "-" + PARENT_ID + "-01"))
+                    .andExpect(status().isOk());
+
+            List<TraceSummary> traces = traceEndpoint.traces();
+            assertThat(traces.getFirst().getTraceId(), equalTo(traceId));
+            assertThat(traces.getFirst().getName(), equalTo("GET /users/{userId}"));
+            assertThat(traces.getFirst().getSpans(), equalTo(3));
+        }
+    }
+}
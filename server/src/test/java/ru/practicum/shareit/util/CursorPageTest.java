@@ -0,0 +1,30 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.practicum.shareit.exceptions.NotAvailableException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static ru.practicum.shareit.util.Constants.MAX_PAGE_SIZE;
+
+class CursorPageTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, MAX_PAGE_SIZE})
+    void checkSize_withSizeWithinLimits_thenPass(int size) {
+        assertDoesNotThrow(() -> CursorPage.checkSize(size));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void checkSize_withNotPositiveSize_thenThrowException(int size) {
+        assertThrows(NotAvailableException.class, () -> CursorPage.checkSize(size));
+    }
+
+    @Test
+    void checkSize_withSizeOverMaximum_thenThrowException() {
+        assertThrows(NotAvailableException.class, () -> CursorPage.checkSize(MAX_PAGE_SIZE + 1));
+    }
+}
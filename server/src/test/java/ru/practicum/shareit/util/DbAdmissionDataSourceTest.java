@@ -0,0 +1,82 @@
+package ru.practicum.shareit.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class DbAdmissionDataSourceTest {
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Test
+    void dataSource_withVirtualThreads_thenLimitedToPoolSize() throws Exception {
+        assertThat(dataSource, instanceOf(DbAdmissionDataSource.class));
+        assertThat(dataSource.unwrap(HikariDataSource.class), notNullValue());
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1), equalTo(true));
+            assertThat(meterRegistry.get("db.admission.active").tag("pool", "dataSource").gauge().value(),
+                    equalTo(1.0));
+        }
+        assertThat(meterRegistry.get("db.admission.active").gauge().value(), equalTo(0.0));
+        assertThat(meterRegistry.find("jvm.threads.virtual.pinned").timer(), notNullValue());
+    }
+
+    @Test
+    void getConnection_whenAllPermitsTaken_thenWaitForClose() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DbAdmissionDataSource limited = new DbAdmissionDataSource(dataSource, "limited", 1, Duration.ofSeconds(5),
+                registry);
+
+        Connection first = limited.getConnection();
+        CompletableFuture<Connection> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limited.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (registry.get("db.admission.queued").gauge().value() == 0) {
+            Thread.onSpinWait();
+        }
+        first.close();
+        first.close();
+
+        try (Connection connection = second.get(5, TimeUnit.SECONDS)) {
+            assertThat(connection.isValid(1), equalTo(true));
+        }
+        assertThat(registry.get("db.admission.active").gauge().value(), equalTo(0.0));
+        assertThat(registry.get("db.admission.wait").timer().count(), equalTo(2L));
+    }
+
+    @Test
+    void getConnection_whenPermitNotReleased_thenTimeout() throws Exception {
+        DbAdmissionDataSource limited = new DbAdmissionDataSource(dataSource, "limited", 1, Duration.ofMillis(50),
+                new SimpleMeterRegistry());
+
+        try (Connection ignored = limited.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, limited::getConnection);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstantMapperTest {
+    private static final DateTimeFormatter REFERENCE = DateTimeFormatter.ofPattern(Constants.DATE_PATTERN)
+            .withZone(ZoneId.systemDefault());
+    private static final long FIRST_SECOND = LocalDateTime.of(1, 1, 1, 0, 0)
+            .atZone(ZoneId.systemDefault()).toEpochSecond();
+    private static final long LAST_SECOND = LocalDateTime.of(9999, 12, 31, 23, 59, 59)
+            .atZone(ZoneId.systemDefault()).toEpochSecond();
+
+    @Test
+    void mapInstantToString_withRandomInstants_thenSameAsFormatter() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong(FIRST_SECOND, LAST_SECOND + 1),
+                    random.nextInt(1_000_000_000));
+            assertThat(InstantMapper.mapInstantToString(instant), equalTo(REFERENCE.format(instant)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0001-01-01T00:00:00", "1969-12-31T23:59:59", "1970-01-01T00:00:00",
+            "2000-02-29T12:30:45", "2024-12-31T23:59:59", "2100-03-01T00:00:00", "9999-12-31T23:59:59"})
+    void mapInstantToString_withBoundaryDates_thenRoundTrip(String date) {
+        Instant instant = InstantMapper.mapStringToInstant(date);
+
+        assertThat(InstantMapper.mapInstantToString(instant), equalTo(date));
+    }
+
+    @Test
+    void mapInstantToString_withYearOutsideFourDigits_thenSameAsFormatter() {
+        Instant instant = Instant.ofEpochSecond(LAST_SECOND + 1);
+
+        assertThat(InstantMapper.mapInstantToString(instant), equalTo(REFERENCE.format(instant)));
+    }
+
+    @Test
+    void map_withNull_thenReturnNull() {
+        assertThat(InstantMapper.mapInstantToString(null), nullValue());
+        assertThat(InstantMapper.mapStringToInstant(null), nullValue());
+    }
+
+    @Test
+    void mapStringToInstant_withInvalidDate_thenThrowException() {
+        assertThrows(DateTimeParseException.class, () -> InstantMapper.mapStringToInstant("2024-13-01T00:00:00"));
+    }
+}
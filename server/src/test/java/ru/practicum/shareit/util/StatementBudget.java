@@ -0,0 +1,20 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when Hibernate prepares more than {@link #value()} SQL statements while the test method
+ * runs, including the flush of pending changes at its end. Statements of {@code @BeforeEach} methods and rows
+ * inserted through plain JDBC, as {@link TestDataset} does, are not counted.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+    long value();
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        statistics(context).clear();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(context);
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.flush();
+        }
+        long budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+                .orElseThrow()
+                .value();
+        Statistics statistics = statistics(context);
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= budget, () -> "Hibernate prepared " + statements + " statements, the budget is "
+                + budget + ". " + describe(statistics));
+    }
+
+    private static String describe(Statistics statistics) {
+        String loads = Arrays.stream(statistics.getEntityNames())
+                .filter(entity -> statistics.getEntityStatistics(entity).getLoadCount() > 0)
+                .map(entity -> shortName(entity) + "=" + statistics.getEntityStatistics(entity).getLoadCount())
+                .collect(Collectors.joining(", "));
+        String fetches = Arrays.stream(statistics.getCollectionRoleNames())
+                .filter(role -> statistics.getCollectionStatistics(role).getFetchCount() > 0)
+                .map(role -> shortName(role) + "=" + statistics.getCollectionStatistics(role).getFetchCount())
+                .collect(Collectors.joining(", "));
+        return "Entity loads: [" + loads + "], entity fetches: " + statistics.getEntityFetchCount()
+                + ", collection fetches: [" + fetches + "], queries: " + statistics.getQueryExecutionCount();
+    }
+
+    private static String shortName(String name) {
+        String[] parts = name.split("\\.");
+        return parts.length < 2 ? name : parts[parts.length - 2] + "." + parts[parts.length - 1];
+    }
+
+    private static Statistics statistics(ExtensionContext context) {
+        Statistics statistics = entityManagerFactory(context).unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("@StatementBudget needs hibernate.generate_statistics=true");
+        }
+        return statistics;
+    }
+
+    private static EntityManagerFactory entityManagerFactory(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(EntityManagerFactory.class);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts rows through plain JDBC, bypassing Hibernate, so they are not counted by a {@link StatementBudget}.
+ * Ids start above the ids of the test fixtures.
+ */
+public class TestDataset {
+    private final JdbcTemplate jdbcTemplate;
+    private long nextId = 1000;
+
+    public TestDataset(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> users(int count) {
+        List<Long> ids = nextIds(count);
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)",
+                ids.stream().map(id -> new Object[]{id, "user" + id, "user" + id + "@dataset.ru"}).toList());
+        return ids;
+    }
+
+    public List<Long> requests(long requestorId, int count) {
+        List<Long> ids = nextIds(count);
+        Timestamp created = Timestamp.from(Instant.now().minus(Duration.ofDays(1)));
+        jdbcTemplate.batchUpdate("INSERT INTO item_requests (id, requestor_id, description, created) "
+                                 + "VALUES (?, ?, ?, ?)",
+                ids.stream().map(id -> new Object[]{id, requestorId, "request" + id, created}).toList());
+        return ids;
+    }
+
+    public List<Long> items(long ownerId, int count) {
+        return items(ownerId, count, null);
+    }
+
+    /**
+     * Available items of {@code ownerId}, answering {@code requestId} when it is not null.
+     */
+    public List<Long> items(long ownerId, int count, Long requestId) {
+        List<Long> ids = nextIds(count);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, owner_id, name, description, available, request_id) "
+                                 + "VALUES (?, ?, ?, ?, true, ?)",
+                ids.stream().map(id -> new Object[]{id, ownerId, "item" + id, "description" + id, requestId})
+                        .toList());
+        return ids;
+    }
+
+    /**
+     * One booking of {@code bookerId} for each item, lasting a day from {@code start}.
+     */
+    public List<Long> bookings(long bookerId, List<Long> itemIds, Instant start, BookingStatus status) {
+        List<Long> ids = nextIds(itemIds.size());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < itemIds.size(); i++) {
+            rows.add(new Object[]{ids.get(i), bookerId, itemIds.get(i), itemIds.get(i), Timestamp.from(start),
+                    Timestamp.from(start.plus(Duration.ofDays(1))), status.name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (id, booker_id, item_id, owner_id, start_date, end_date, status) "
+                                 + "VALUES (?, ?, ?, (SELECT owner_id FROM items WHERE id = ?), ?, ?, ?)", rows);
+        return ids;
+    }
+
+    /**
+     * {@code perItem} comments of {@code authorId} on each item.
+     */
+    public void comments(long authorId, List<Long> itemIds, int perItem) {
+        Timestamp created = Timestamp.from(Instant.now().minus(Duration.ofDays(1)));
+        List<Object[]> rows = new ArrayList<>();
+        for (long itemId : itemIds) {
+            for (int i = 0; i < perItem; i++) {
+                rows.add(new Object[]{nextId++, itemId, authorId, "comment " + i, created});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, item_id, user_id, text, created) VALUES (?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private List<Long> nextIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId++);
+        }
+        return ids;
+    }
+}
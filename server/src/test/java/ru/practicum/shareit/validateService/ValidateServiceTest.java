@@ -0,0 +1,132 @@
+package ru.practicum.shareit.validateService;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.calendar.service.ItemCalendarService;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemBookingDatesDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.InstantMapper;
+import ru.practicum.shareit.util.TestDataset;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.practicum.shareit.TestConstant.NOT_EXISTING_ID;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ValidateServiceTest {
+    private final ValidateService validateService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ItemCalendarService calendarService;
+    private final long userId = 13L;
+    private final long itemId = 32L;
+    private Statistics statistics;
+
+    @BeforeEach
+    void testInitialization() {
+        validateService.evictUser(userId);
+        validateService.evictItem(itemId);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void checkUser_withRepeatedCalls_thenLoadOnce() {
+        UserSnapshot first = validateService.checkUser(userId);
+        UserSnapshot second = validateService.checkUser(userId);
+
+        assertThat(second.getEmail(), equalTo(first.getEmail()));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(1L));
+    }
+
+    @Test
+    void checkItem_afterEvict_thenReloadChangedState() {
+        assertThat(validateService.checkItem(itemId).getName(), equalTo("item2"));
+        jdbcTemplate.update("UPDATE items SET name = 'renamed' WHERE id = ?", itemId);
+        try {
+            assertThat(validateService.checkItem(itemId).getName(), equalTo("item2"));
+
+            validateService.evictItem(itemId);
+
+            assertThat(validateService.checkItem(itemId).getName(), equalTo("renamed"));
+        } finally {
+            jdbcTemplate.update("UPDATE items SET name = 'item2' WHERE id = ?", itemId);
+            validateService.evictItem(itemId);
+        }
+    }
+
+    @Test
+    void get_withCachedItem_thenLoadOnlyComments() {
+        validateService.checkUser(userId);
+        validateService.checkItem(itemId);
+        statistics.clear();
+
+        ItemBookingDatesDto item = itemService.get(userId, itemId);
+
+        assertThat(item.getName(), equalTo("item2"));
+        assertThat(statistics.getEntityLoadCount(), equalTo(0L));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(1L));
+    }
+
+    @Test
+    void delete_withOwnedItemsAndBookings_thenEvictTheirCachedStates() {
+        TestDataset dataset = new TestDataset(jdbcTemplate);
+        long deletedUserId = dataset.users(1).getFirst();
+        long ownedItemId = dataset.items(deletedUserId, 1).getFirst();
+        long bookedItemId = 31L;
+        Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(Duration.ofDays(100));
+        dataset.bookings(deletedUserId, List.of(bookedItemId), start, BookingStatus.APPROVED);
+        String from = InstantMapper.mapInstantToString(start);
+        String to = InstantMapper.mapInstantToString(start.plus(Duration.ofHours(1)));
+        validateService.checkItem(ownedItemId);
+        assertFalse(calendarService.getAvailability(userId, bookedItemId, from, to).isAvailable());
+
+        userService.delete(deletedUserId);
+
+        assertThrows((NotFoundException.class), () -> validateService.checkItem(ownedItemId));
+        assertTrue(calendarService.getAvailability(userId, bookedItemId, from, to).isAvailable());
+    }
+
+    @Test
+    void checkUser_insideTransaction_thenBypassCache() {
+        validateService.checkUser(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            validateService.checkUser(userId);
+            status.setRollbackOnly();
+        });
+        validateService.checkUser(userId);
+
+        assertThat(statistics.getPrepareStatementCount(), equalTo(2L));
+    }
+
+    @Test
+    void checkUser_withNotExistingId_thenNotCacheAbsence() {
+        assertThrows((NotFoundException.class), () -> validateService.checkUser(NOT_EXISTING_ID));
+        assertThrows((NotFoundException.class), () -> validateService.checkUser(NOT_EXISTING_ID));
+
+        assertThat(statistics.getPrepareStatementCount(), equalTo(2L));
+    }
+}
@@ -12,15 +12,18 @@ VALUES (31, 11, 'item1', 'description1', 'true', null),
        (32, 11, 'item2', 'description2', 'true', null),
        (33, 11, 'item3', 'description3', 'false', null);
 
-INSERT INTO bookings (id, booker_id, item_id, start_date, end_date, status)
-VALUES (41, 12, 31, TIMESTAMP '2025-03-25 15:15:15', TIMESTAMP '2025-03-29 17:10:10', 'APPROVED'),
-       (42, 12, 31, CAST(CURRENT_DATE AS TIMESTAMP) + INTERVAL '1' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
+INSERT INTO bookings (id, booker_id, item_id, owner_id, start_date, end_date, status)
+VALUES (41, 12, 31, 11, TIMESTAMP '2025-03-25 15:15:15', TIMESTAMP '2025-03-29 17:10:10', 'APPROVED'),
+       (42, 12, 31, 11, CAST(CURRENT_DATE AS TIMESTAMP) + INTERVAL '1' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
                            + INTERVAL '2' DAY, 'APPROVED'),
-       (43, 12, 32, CAST(CURRENT_DATE AS TIMESTAMP) + INTERVAL '1' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
+       (43, 12, 32, 11, CAST(CURRENT_DATE AS TIMESTAMP) + INTERVAL '1' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
                            + INTERVAL '2' DAY, 'APPROVED'),
-       (44, 13, 33, TIMESTAMP '2025-06-25 15:15:15', TIMESTAMP '2026-03-14 17:10:10', 'WAITING'),
-       (45, 12, 33, TIMESTAMP '2025-02-25 15:15:15', TIMESTAMP '2025-07-14 17:10:10', 'REJECTED'),
-       (46, 12, 31, TIMESTAMP '2025-03-25 15:15:15', TIMESTAMP '2026-04-25 17:10:10', 'CANCELED');
+       (44, 13, 33, 11, CAST(CURRENT_DATE AS TIMESTAMP) + INTERVAL '60' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
+                           + INTERVAL '320' DAY, 'WAITING'),
+       (45, 12, 33, 11, CAST(CURRENT_DATE AS TIMESTAMP) - INTERVAL '30' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
+                           + INTERVAL '80' DAY, 'REJECTED'),
+       (46, 12, 31, 11, CAST(CURRENT_DATE AS TIMESTAMP) - INTERVAL '20' DAY, CAST(CURRENT_DATE AS TIMESTAMP)
+                           + INTERVAL '370' DAY, 'CANCELED');
 
 INSERT INTO comments (id, item_id, user_id, text, created)
     VALUES (111, 31, 12, 'test comment', TIMESTAMP '2025-03-30 15:15:15');
\ No newline at end of file